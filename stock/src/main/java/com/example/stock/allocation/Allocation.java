@@ -0,0 +1,10 @@
+package com.example.stock.allocation;
+
+/**
+ * 창고 한 곳에서 차감할 할당 결과
+ * @param warehouseStockId  창고별 상품재고 아이디
+ * @param warehouseId       창고 아이디
+ * @param quantity          차감 수량
+ */
+public record Allocation(Long warehouseStockId, Long warehouseId, Long quantity) {
+}
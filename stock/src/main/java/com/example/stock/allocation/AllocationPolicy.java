@@ -0,0 +1,26 @@
+package com.example.stock.allocation;
+
+import com.example.stock.domain.WarehouseAvailability;
+
+import java.util.List;
+
+/**
+ * 후보 창고 중 어느 창고에서 얼마만큼 차감할 지 결정하는 할당 정책
+ */
+public interface AllocationPolicy {
+
+    /**
+     * 할당 결과 계산
+     * @param request       할당 요청
+     * @param candidates    후보 창고별 가용 재고
+     * @return 요청 수량을 채울 수 없으면 빈 리스트
+     */
+    List<Allocation> allocate(AllocationRequest request, List<WarehouseAvailability> candidates);
+
+    // 배송지와 창고 사이의 거리 비교용 값 (정렬에만 사용하므로 제곱 거리 사용)
+    static double distance(AllocationRequest request, WarehouseAvailability candidate) {
+        double dLat = candidate.latitude() - request.latitude();
+        double dLng = candidate.longitude() - request.longitude();
+        return dLat * dLat + dLng * dLng;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.stock.allocation;
+
+/**
+ * 창고 재고 할당 요청
+ * @param productId     상품 아이디
+ * @param quantity      요청 수량
+ * @param latitude      배송지 위도
+ * @param longitude     배송지 경도
+ */
+public record AllocationRequest(Long productId, Long quantity, double latitude, double longitude) {
+}
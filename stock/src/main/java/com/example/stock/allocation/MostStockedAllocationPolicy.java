@@ -0,0 +1,24 @@
+package com.example.stock.allocation;
+
+import com.example.stock.domain.WarehouseAvailability;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 재고가 가장 많이 남아있는 창고 한 곳에서 출고
+ * 창고 간 재고를 고르게 소진시키고 싶을 때 사용
+ */
+@Component
+public class MostStockedAllocationPolicy implements AllocationPolicy {
+
+    @Override
+    public List<Allocation> allocate(AllocationRequest request, List<WarehouseAvailability> candidates) {
+        return candidates.stream()
+                .filter(candidate -> candidate.quantity() >= request.quantity())
+                .max(Comparator.comparingLong(WarehouseAvailability::quantity))
+                .map(candidate -> List.of(new Allocation(candidate.warehouseStockId(), candidate.warehouseId(), request.quantity())))
+                .orElse(List.of());
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.stock.allocation;
+
+import com.example.stock.domain.WarehouseAvailability;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 요청 수량 전체를 보유한 창고 중 배송지에서 가장 가까운 창고 한 곳에서 출고
+ */
+@Component
+public class NearestAllocationPolicy implements AllocationPolicy {
+
+    @Override
+    public List<Allocation> allocate(AllocationRequest request, List<WarehouseAvailability> candidates) {
+        return candidates.stream()
+                .filter(candidate -> candidate.quantity() >= request.quantity())
+                .min(Comparator.comparingDouble(candidate -> AllocationPolicy.distance(request, candidate)))
+                .map(candidate -> List.of(new Allocation(candidate.warehouseStockId(), candidate.warehouseId(), request.quantity())))
+                .orElse(List.of());
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.stock.allocation;
+
+import com.example.stock.domain.WarehouseAvailability;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 한 창고로 부족한 경우 가까운 창고부터 차례로 나누어 출고 (분할 배송)
+ */
+@Component
+public class SplitShipmentAllocationPolicy implements AllocationPolicy {
+
+    @Override
+    public List<Allocation> allocate(AllocationRequest request, List<WarehouseAvailability> candidates) {
+        List<WarehouseAvailability> nearestFirst = candidates.stream()
+                .filter(candidate -> candidate.quantity() > 0)
+                .sorted(Comparator.comparingDouble(candidate -> AllocationPolicy.distance(request, candidate)))
+                .toList();
+
+        List<Allocation> allocations = new ArrayList<>();
+        long remaining = request.quantity();
+
+        for(WarehouseAvailability candidate : nearestFirst) {
+            if(remaining == 0) {
+                break;
+            }
+
+            long taken = Math.min(remaining, candidate.quantity());
+            allocations.add(new Allocation(candidate.warehouseStockId(), candidate.warehouseId(), taken));
+            remaining -= taken;
+        }
+
+        // 모든 창고를 합쳐도 부족하면 할당하지 않음
+        return remaining == 0 ? allocations : List.of();
+    }
+}
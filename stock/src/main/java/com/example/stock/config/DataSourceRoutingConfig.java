@@ -0,0 +1,63 @@
+package com.example.stock.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 / 쓰기 DataSource 분리 설정 (stock.datasource.routing.enabled=true 일 때만 동작)
+ * primary 는 기존 spring.datasource.* 설정을 그대로 사용하고, replica 는 stock.datasource.replica.* 로 추가
+ * replica 커넥션 풀은 primary 의 Hikari 설정 (풀 크기, PreparedStatement 캐시 등) 을 그대로 복사하여 생성
+ */
+@Configuration
+@ConditionalOnProperty(name = "stock.datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaDataSources replicaDataSources(HikariDataSource primaryDataSource,
+                                                 @Value("${stock.datasource.replica.urls}") List<String> urls,
+                                                 @Value("${stock.datasource.replica.username:${spring.datasource.username:}}") String username,
+                                                 @Value("${stock.datasource.replica.password:${spring.datasource.password:}}") String password,
+                                                 @Value("${stock.datasource.replica.max-lag:PT2S}") Duration maxLag) {
+        List<HikariDataSource> dataSources = new ArrayList<>(urls.size());
+        for(int i = 0; i < urls.size(); i++) {
+            HikariConfig config = new HikariConfig();
+            primaryDataSource.copyStateTo(config);
+            config.setPoolName("replica-" + i);
+            config.setJdbcUrl(urls.get(i));
+            config.setUsername(username);
+            config.setPassword(password);
+            config.setReadOnly(true);
+            dataSources.add(new HikariDataSource(config));
+        }
+        return new ReplicaDataSources(dataSources, maxLag);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaDataSources replicaDataSources) {
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSources);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
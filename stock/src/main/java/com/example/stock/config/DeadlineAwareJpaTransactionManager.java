@@ -0,0 +1,39 @@
+package com.example.stock.config;
+
+import com.example.stock.deadline.Deadline;
+import com.example.stock.deadline.DeadlineContext;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+/**
+ * 요청 기한을 트랜잭션 타임아웃으로 넘기는 트랜잭션 매니저
+ * 트랜잭션 타임아웃은 JPA 쿼리 힌트 / JdbcTemplate 의 Statement.setQueryTimeout 으로 적용되므로
+ * select ... for update, get_lock 처럼 DB 에서 대기하는 쿼리도 남은 시간 안에서 취소됨
+ */
+public class DeadlineAwareJpaTransactionManager extends JpaTransactionManager {
+
+    public DeadlineAwareJpaTransactionManager(EntityManagerFactory entityManagerFactory) {
+        super(entityManagerFactory);
+    }
+
+    // 기한이 이미 지났으면 커넥션을 얻기 전에 실패
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        DeadlineContext.check("트랜잭션 시작");
+        super.doBegin(transaction, definition);
+    }
+
+    // 지정된 타임아웃과 남은 시간 (초 단위 올림, 최소 1초) 중 짧은 값
+    @Override
+    protected int determineTimeout(TransactionDefinition definition) {
+        int timeout = super.determineTimeout(definition);
+        Deadline deadline = DeadlineContext.current();
+        if(deadline == null) {
+            return timeout;
+        }
+
+        int remaining = (int) Math.max(1, (deadline.remaining().toMillis() + 999) / 1000);
+        return timeout == TransactionDefinition.TIMEOUT_DEFAULT ? remaining : Math.min(timeout, remaining);
+    }
+}
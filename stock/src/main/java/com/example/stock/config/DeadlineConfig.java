@@ -0,0 +1,25 @@
+package com.example.stock.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 요청 기한 설정
+ * 스프링 부트 기본 JpaTransactionManager 대신 요청 기한을 트랜잭션 타임아웃으로 넘기는 트랜잭션 매니저 등록
+ * (Lettuce 명령 타임아웃은 커넥션 공유로 요청마다 바꿀 수 없으므로 spring.data.redis.timeout 으로 상한만 설정)
+ */
+@Configuration
+public class DeadlineConfig {
+
+    @Bean
+    public PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory,
+                                                         ObjectProvider<TransactionManagerCustomizers> customizers) {
+        DeadlineAwareJpaTransactionManager transactionManager = new DeadlineAwareJpaTransactionManager(entityManagerFactory);
+        customizers.ifAvailable(customizer -> customizer.customize(transactionManager));
+        return transactionManager;
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.stock.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 트랜잭션 종류에 따라 primary / replica 로 연결을 나누는 DataSource
+ *  . @Transactional(readOnly = true) 트랜잭션 : 복제 지연이 허용 범위인 replica (없으면 primary)
+ *  . 그 외 (재고 감소, 비관적 락, 네임드 락, 트랜잭션 밖의 호출) : 항상 primary
+ * 트랜잭션 시작 시점에 바로 연결을 가져오면 readOnly 여부가 아직 설정되지 않았으므로 LazyConnectionDataSourceProxy 로 감싸서 사용
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private final ReplicaDataSources replicas;
+
+    public ReadWriteRoutingDataSource(DataSource primary, ReplicaDataSources replicas) {
+        this.replicas = replicas;
+
+        Map<Object, Object> targets = new HashMap<>(replicas.targets());
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if(!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+
+        String replica = replicas.select();
+        return replica != null ? replica : PRIMARY;
+    }
+}
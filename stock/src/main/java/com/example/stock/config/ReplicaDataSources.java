@@ -0,0 +1,95 @@
+package com.example.stock.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 복제본 (replica) DataSource 목록과 복제 지연 상태
+ * 주기적으로 SHOW REPLICA STATUS 의 Seconds_Behind_Source 를 확인하여 허용 지연 이내인 복제본만 읽기에 사용
+ * 복제가 멈췄거나 (값이 NULL) 조회에 실패한 복제본은 다음 확인 때까지 제외
+ */
+public class ReplicaDataSources implements Closeable {
+
+    private final List<Replica> replicas;
+
+    // 허용 복제 지연 (초)
+    private final long maxLagSeconds;
+
+    // 현재 읽기에 사용 가능한 복제본
+    private volatile List<Replica> healthy = List.of();
+
+    // 사용 가능한 복제본 간 순환 선택
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaDataSources(List<HikariDataSource> dataSources, Duration maxLag) {
+        List<Replica> replicas = new ArrayList<>(dataSources.size());
+        for(int i = 0; i < dataSources.size(); i++) {
+            replicas.add(new Replica("replica-" + i, dataSources.get(i), new JdbcTemplate(dataSources.get(i))));
+        }
+        this.replicas = List.copyOf(replicas);
+        this.maxLagSeconds = maxLag.toSeconds();
+    }
+
+    // 라우팅 대상 등록을 위한 이름 > DataSource 목록
+    public Map<Object, Object> targets() {
+        Map<Object, Object> targets = new HashMap<>();
+        replicas.forEach(replica -> targets.put(replica.name(), replica.dataSource()));
+        return targets;
+    }
+
+    /**
+     * 읽기에 사용할 복제본 이름 선택
+     * @return  사용 가능한 복제본이 없으면 null (primary 로 대체)
+     */
+    public String select() {
+        List<Replica> candidates = healthy;
+        if(candidates.isEmpty()) {
+            return null;
+        }
+        return candidates.get(Math.floorMod(next.getAndIncrement(), candidates.size())).name();
+    }
+
+    // 복제 지연 확인
+    @Scheduled(fixedDelayString = "${stock.datasource.replica.lag-check-interval:PT1S}")
+    public void checkLag() {
+        List<Replica> result = new ArrayList<>(replicas.size());
+        for(Replica replica : replicas) {
+            try {
+                List<Map<String, Object>> status = replica.jdbcTemplate().queryForList("SHOW REPLICA STATUS");
+                if(isWithinLag(status, maxLagSeconds)) {
+                    result.add(replica);
+                }
+            } catch (RuntimeException e) {
+                // 연결 실패 등은 다음 확인 때까지 제외
+            }
+        }
+        healthy = List.copyOf(result);
+    }
+
+    // 복제 상태가 허용 지연 이내인지 확인 (복제본이 아니거나 복제가 멈춘 경우 false)
+    static boolean isWithinLag(List<Map<String, Object>> status, long maxLagSeconds) {
+        if(status.isEmpty()) {
+            return false;
+        }
+
+        Object lag = status.get(0).get("Seconds_Behind_Source");
+        return lag instanceof Number seconds && seconds.longValue() <= maxLagSeconds;
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.dataSource().close());
+    }
+
+    private record Replica(String name, HikariDataSource dataSource, JdbcTemplate jdbcTemplate) {
+    }
+}
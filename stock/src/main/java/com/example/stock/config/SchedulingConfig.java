@@ -0,0 +1,12 @@
+package com.example.stock.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기적으로 실행되는 작업 (만료 데이터 정리 등) 활성화
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
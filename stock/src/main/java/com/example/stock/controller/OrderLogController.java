@@ -0,0 +1,80 @@
+package com.example.stock.controller;
+
+import com.example.stock.exception.OutOfStockException;
+import com.example.stock.orderlog.OrderLog;
+import com.example.stock.orderlog.OrderLogReceipt;
+import com.example.stock.orderlog.OrderLogRecordStatus;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 주문 로그를 통한 재고 감소 API
+ *  . 기본은 로그 기록 후 바로 202 와 (partition, offset) 반환, 처리 결과는 오프셋 조회 API 로 확인
+ *  . wait=true 면 DB 반영까지 기다린 후 응답
+ */
+@RestController
+@RequestMapping("/order-log")
+@ConditionalOnProperty(name = "stock.order-log.enabled", havingValue = "true")
+public class OrderLogController {
+
+    // 파티션 주문 로그
+    private final OrderLog orderLog;
+
+    public OrderLogController(OrderLog orderLog) {
+        this.orderLog = orderLog;
+    }
+
+    /**
+     * 재고 감소 요청 기록
+     * 예) POST /order-log/stocks/1/decrease?quantity=1&wait=true
+     * @param id        상품재고 아이디
+     * @param quantity  감소 수량
+     * @param wait      DB 반영까지 기다릴지 여부
+     */
+    @PostMapping("/stocks/{id}/decrease")
+    public CompletableFuture<ResponseEntity<OrderLogReceipt>> decrease(@PathVariable Long id,
+                                                                       @RequestParam Long quantity,
+                                                                       @RequestParam(defaultValue = "false") boolean wait) {
+        OrderLogReceipt receipt = orderLog.append(id, quantity);
+        if(!wait) {
+            return CompletableFuture.completedFuture(ResponseEntity.accepted().body(receipt));
+        }
+        return receipt.completion().thenApply(applied -> ResponseEntity.ok(receipt));
+    }
+
+    /**
+     * 오프셋 처리 결과 조회 (PENDING / APPLIED / REJECTED, 거절된 경우 사유 포함)
+     * 예) GET /order-log/partitions/3/offsets/120
+     */
+    @GetMapping("/partitions/{partition}/offsets/{offset}")
+    public OrderLogRecordStatus status(@PathVariable int partition, @PathVariable long offset) {
+        return orderLog.status(partition, offset);
+    }
+
+    // 0 이하 수량 등 잘못된 요청
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> badRequest(IllegalArgumentException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+    }
+
+    @ExceptionHandler(NoSuchElementException.class)
+    public ResponseEntity<String> notFound(NoSuchElementException e) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+    }
+
+    @ExceptionHandler(OutOfStockException.class)
+    public ResponseEntity<String> outOfStock(OutOfStockException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.stock.controller;
+
+import com.example.stock.deadline.DeadlineContext;
+import com.example.stock.exception.DeadlineExceededException;
+import com.example.stock.exception.OutOfStockException;
+import com.example.stock.exception.StaleFencingTokenException;
+import com.example.stock.exception.StockBusyException;
+import com.example.stock.facade.ReactiveLockStockFacade;
+import com.example.stock.service.ReactiveStockService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.NoSuchElementException;
+
+/**
+ * 논블로킹 재고 감소 API (stock.reactive.enabled=true 일 때만 동작)
+ * Mono 를 반환하면 Spring MVC 가 비동기 요청으로 처리하므로 Lock 대기 / DB 응답 대기 중에는 서블릿 스레드를 반납
+ */
+@RestController
+@RequestMapping("/reactive/stocks")
+@ConditionalOnProperty(name = "stock.reactive.enabled", havingValue = "true")
+public class ReactiveStockController {
+
+    // 재고 사용 중 (503) 응답 시 재시도 권장 시간 (초)
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    // 조건부 UPDATE 재고 감소 서비스 클래스
+    private final ReactiveStockService reactiveStockService;
+
+    // Redis Lock + 펜싱 토큰 재고 감소 클래스
+    private final ReactiveLockStockFacade reactiveLockStockFacade;
+
+    public ReactiveStockController(ReactiveStockService reactiveStockService, ReactiveLockStockFacade reactiveLockStockFacade) {
+        this.reactiveStockService = reactiveStockService;
+        this.reactiveLockStockFacade = reactiveLockStockFacade;
+    }
+
+    /**
+     * 재고 감소
+     * 예) POST /reactive/stocks/1/decrease?quantity=1&lock=true
+     * @param id        상품재고 아이디
+     * @param quantity  감소 수량
+     * @param lock      Redis Lock (펜싱 토큰) 사용 여부, false 면 조건부 UPDATE 만 수행
+     */
+    @PostMapping("/{id}/decrease")
+    public Mono<ResponseEntity<Void>> decrease(@PathVariable Long id,
+                                               @RequestParam Long quantity,
+                                               @RequestParam(defaultValue = "false") boolean lock) {
+        Mono<Void> decrease = lock ? reactiveLockStockFacade.decrease(id, quantity) : reactiveStockService.decrease(id, quantity);
+        // 요청 스레드의 기한 (DeadlineFilter) 을 Reactor Context 로 전달하여 Lock 대기가 기한을 넘지 않도록 함
+        return decrease.then(Mono.fromSupplier(() -> ResponseEntity.ok().<Void>build()))
+                .contextWrite(DeadlineContext::withCurrent);
+    }
+
+    // 0 이하 수량 등 잘못된 요청
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> badRequest(IllegalArgumentException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+    }
+
+    @ExceptionHandler(NoSuchElementException.class)
+    public ResponseEntity<String> notFound(NoSuchElementException e) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+    }
+
+    @ExceptionHandler(OutOfStockException.class)
+    public ResponseEntity<String> outOfStock(OutOfStockException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+    }
+
+    @ExceptionHandler(StaleFencingTokenException.class)
+    public ResponseEntity<String> staleFencingToken(StaleFencingTokenException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+    }
+
+    // 요청 기한 (X-Request-Timeout) 안에 Lock 을 획득하지 못한 경우
+    @ExceptionHandler(DeadlineExceededException.class)
+    public ResponseEntity<String> deadlineExceeded(DeadlineExceededException e) {
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(e.getMessage());
+    }
+
+    @ExceptionHandler(StockBusyException.class)
+    public ResponseEntity<String> stockBusy(StockBusyException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .body(e.getMessage());
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.stock.controller;
+
+import com.example.stock.exception.DeadlineExceededException;
+import com.example.stock.exception.NotOwnerException;
+import com.example.stock.exception.OutOfStockException;
+import com.example.stock.facade.RoutingStockFacade;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.NoSuchElementException;
+
+/**
+ * 상품 소유 인스턴스 라우팅 API
+ *  . /routing/stocks/{id}/decrease  : 로드밸런서를 통해 들어오는 요청 (소유 인스턴스로 전달)
+ *  . /internal/stocks/{id}/decrease : 다른 인스턴스가 전달한 요청 (다시 전달하지 않고 로컬 처리, 소유자가 아니면 421 로 거절)
+ */
+@RestController
+@ConditionalOnProperty(name = "stock.routing.enabled", havingValue = "true")
+public class RoutingStockController {
+
+    // 라우팅 Facade
+    private final RoutingStockFacade routingStockFacade;
+
+    public RoutingStockController(RoutingStockFacade routingStockFacade) {
+        this.routingStockFacade = routingStockFacade;
+    }
+
+    @PostMapping("/routing/stocks/{id}/decrease")
+    public void decrease(@PathVariable Long id, @RequestParam Long quantity) {
+        routingStockFacade.decrease(id, quantity);
+    }
+
+    @PostMapping("/internal/stocks/{id}/decrease")
+    public void decreaseForwarded(@PathVariable Long id, @RequestParam Long quantity,
+                                  @RequestHeader(RoutingStockFacade.FORWARDED_HEADER) String forwardedBy) {
+        routingStockFacade.decreaseForwarded(id, quantity, forwardedBy);
+    }
+
+    // 0 이하 수량 등 잘못된 요청
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> badRequest(IllegalArgumentException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+    }
+
+    @ExceptionHandler(NoSuchElementException.class)
+    public ResponseEntity<String> notFound(NoSuchElementException e) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+    }
+
+    @ExceptionHandler(NotOwnerException.class)
+    public ResponseEntity<String> notOwner(NotOwnerException e) {
+        return ResponseEntity.status(RoutingStockFacade.MISDIRECTED_REQUEST).body(e.getMessage());
+    }
+
+    @ExceptionHandler(OutOfStockException.class)
+    public ResponseEntity<String> outOfStock(OutOfStockException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+    }
+
+    // 요청 기한 (X-Request-Timeout) 안에 소유 인스턴스 응답 / 쿼리가 끝나지 않은 경우
+    @ExceptionHandler({DeadlineExceededException.class, TransactionTimedOutException.class, QueryTimeoutException.class})
+    public ResponseEntity<String> deadlineExceeded(RuntimeException e) {
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(e.getMessage());
+    }
+}
@@ -0,0 +1,210 @@
+package com.example.stock.controller;
+
+import com.example.stock.domain.StockAvailability;
+import com.example.stock.exception.DeadlineExceededException;
+import com.example.stock.exception.OutOfStockException;
+import com.example.stock.exception.StaleFencingTokenException;
+import com.example.stock.exception.StockBusyException;
+import com.example.stock.facade.LettuceLockStockFacade;
+import com.example.stock.facade.NamedLockStockFacade;
+import com.example.stock.facade.OptimisticLockStockFacade;
+import com.example.stock.facade.RedissonLockStockFacade;
+import com.example.stock.service.JdbcStockService;
+import com.example.stock.service.PessimisticLockStockService;
+import com.example.stock.service.StockIdResolver;
+import com.example.stock.service.StockQueryService;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * 상품재고 API
+ */
+@RestController
+@RequestMapping("/stocks")
+public class StockController {
+
+    // 한 번에 조회 가능한 최대 상품재고 개수
+    private static final int MAX_IDS = 1_000;
+
+    // 재고 사용 중 (503) 응답 시 재시도 권장 시간 (초)
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    // 상품재고 조회 서비스 클래스
+    private final StockQueryService stockQueryService;
+
+    // 전략별 재고 감소 클래스
+    private final PessimisticLockStockService pessimisticLockStockService;
+    private final OptimisticLockStockFacade optimisticLockStockFacade;
+    private final NamedLockStockFacade namedLockStockFacade;
+    private final LettuceLockStockFacade lettuceLockStockFacade;
+    private final RedissonLockStockFacade redissonLockStockFacade;
+    private final JdbcStockService jdbcStockService;
+
+    // 상품 아이디 > 상품재고 아이디 변환
+    private final StockIdResolver stockIdResolver;
+
+    public StockController(StockQueryService stockQueryService,
+                           PessimisticLockStockService pessimisticLockStockService,
+                           OptimisticLockStockFacade optimisticLockStockFacade,
+                           NamedLockStockFacade namedLockStockFacade,
+                           LettuceLockStockFacade lettuceLockStockFacade,
+                           RedissonLockStockFacade redissonLockStockFacade,
+                           JdbcStockService jdbcStockService,
+                           StockIdResolver stockIdResolver) {
+        this.stockQueryService = stockQueryService;
+        this.pessimisticLockStockService = pessimisticLockStockService;
+        this.optimisticLockStockFacade = optimisticLockStockFacade;
+        this.namedLockStockFacade = namedLockStockFacade;
+        this.lettuceLockStockFacade = lettuceLockStockFacade;
+        this.redissonLockStockFacade = redissonLockStockFacade;
+        this.jdbcStockService = jdbcStockService;
+        this.stockIdResolver = stockIdResolver;
+    }
+
+    /**
+     * 여러 상품재고의 가용 수량 조회
+     * 예) GET /stocks/availability?ids=1,2,3&snapshot=true
+     *     GET /stocks/availability?productIds=10,20,30
+     * @param ids           상품재고 아이디 목록
+     * @param productIds    상품 아이디 목록 (ids 대신 사용)
+     * @param snapshot      true 면 모든 결과를 같은 시점의 스냅샷에서 조회 (ids 조회에서만 사용)
+     */
+    @GetMapping("/availability")
+    public List<StockAvailability> availability(@RequestParam(required = false) List<Long> ids,
+                                                @RequestParam(required = false) List<Long> productIds,
+                                                @RequestParam(defaultValue = "false") boolean snapshot) {
+        if((ids == null) == (productIds == null)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "ids 와 productIds 중 하나만 입력해 주세요.");
+        }
+        if((ids != null ? ids : productIds).size() > MAX_IDS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "한 번에 조회 가능한 상품재고는 " + MAX_IDS + "개 입니다.");
+        }
+
+        if(productIds != null) {
+            return stockQueryService.findAvailabilitiesByProductIds(productIds);
+        }
+        return snapshot
+                ? stockQueryService.findAvailabilitiesFromSnapshot(ids)
+                : stockQueryService.findAvailabilities(ids);
+    }
+
+    /**
+     * 선택한 전략으로 재고 감소
+     * 예) POST /stocks/1/decrease?quantity=1&strategy=REDISSON
+     *     POST /stocks/1/decrease?quantity=1&strategy=PESSIMISTIC&lockTimeoutMillis=2000
+     * @param id                상품재고 아이디
+     * @param quantity          감소 수량
+     * @param strategy          동시성 제어 전략
+     * @param lockTimeoutMillis 비관적 락 대기 시간 (PESSIMISTIC 전략에서만 사용, 1 이상, 1초 단위로 올림, 생략 시 innodb_lock_wait_timeout 기본값)
+     */
+    @PostMapping("/{id}/decrease")
+    public void decrease(@PathVariable Long id,
+                         @RequestParam Long quantity,
+                         @RequestParam(defaultValue = "PESSIMISTIC") StockStrategy strategy,
+                         @RequestParam(required = false) Long lockTimeoutMillis) throws InterruptedException {
+        switch(strategy) {
+            case PESSIMISTIC -> {
+                if(lockTimeoutMillis == null) {
+                    pessimisticLockStockService.decrease(id, quantity);
+                } else {
+                    pessimisticLockStockService.decrease(id, quantity, lockTimeout(lockTimeoutMillis));
+                }
+            }
+            case PESSIMISTIC_NOWAIT -> pessimisticLockStockService.decreaseNoWait(id, quantity);
+            case OPTIMISTIC -> optimisticLockStockFacade.decrease(id, quantity);
+            case NAMED -> namedLockStockFacade.decrease(id, quantity);
+            case LETTUCE -> lettuceLockStockFacade.decrease(id, quantity);
+            case REDISSON -> redissonLockStockFacade.decrease(id, quantity);
+            case JDBC -> jdbcStockService.decrease(id, quantity);
+        }
+    }
+
+    /**
+     * 선택한 전략으로 상품 아이디 기준 재고 감소
+     * 예) POST /stocks/products/10/decrease?quantity=1&strategy=LETTUCE
+     * @param productId         상품 아이디
+     * @param quantity          감소 수량
+     * @param strategy          동시성 제어 전략
+     * @param lockTimeoutMillis 비관적 락 대기 시간 (PESSIMISTIC 전략에서만 사용, 1 이상, 1초 단위로 올림)
+     */
+    @PostMapping("/products/{productId}/decrease")
+    public void decreaseByProductId(@PathVariable Long productId,
+                                    @RequestParam Long quantity,
+                                    @RequestParam(defaultValue = "PESSIMISTIC") StockStrategy strategy,
+                                    @RequestParam(required = false) Long lockTimeoutMillis) throws InterruptedException {
+        switch(strategy) {
+            case PESSIMISTIC -> {
+                if(lockTimeoutMillis == null) {
+                    pessimisticLockStockService.decreaseByProductId(productId, quantity);
+                } else {
+                    Duration lockTimeout = lockTimeout(lockTimeoutMillis);
+                    stockIdResolver.execute(productId, id -> pessimisticLockStockService.decrease(id, quantity, lockTimeout));
+                }
+            }
+            case PESSIMISTIC_NOWAIT -> stockIdResolver.execute(productId, id -> pessimisticLockStockService.decreaseNoWait(id, quantity));
+            case OPTIMISTIC -> optimisticLockStockFacade.decreaseByProductId(productId, quantity);
+            case NAMED -> namedLockStockFacade.decreaseByProductId(productId, quantity);
+            case LETTUCE -> lettuceLockStockFacade.decreaseByProductId(productId, quantity);
+            case REDISSON -> redissonLockStockFacade.decreaseByProductId(productId, quantity);
+            case JDBC -> jdbcStockService.decreaseByProductId(productId, quantity);
+        }
+    }
+
+    // 비관적 락 대기 시간 확인 (0 이하는 잘못된 요청)
+    private Duration lockTimeout(Long lockTimeoutMillis) {
+        if(lockTimeoutMillis <= 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "lockTimeoutMillis 는 1 이상이어야 합니다.");
+        }
+        return Duration.ofMillis(lockTimeoutMillis);
+    }
+
+    // 0 이하 수량 등 잘못된 요청
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> badRequest(IllegalArgumentException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+    }
+
+    @ExceptionHandler(NoSuchElementException.class)
+    public ResponseEntity<String> notFound(NoSuchElementException e) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+    }
+
+    @ExceptionHandler(OutOfStockException.class)
+    public ResponseEntity<String> outOfStock(OutOfStockException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+    }
+
+    @ExceptionHandler(StaleFencingTokenException.class)
+    public ResponseEntity<String> staleFencingToken(StaleFencingTokenException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+    }
+
+    // 요청 기한 (X-Request-Timeout) 안에 Lock 획득 / 쿼리가 끝나지 않은 경우
+    @ExceptionHandler({DeadlineExceededException.class, TransactionTimedOutException.class, QueryTimeoutException.class})
+    public ResponseEntity<String> deadlineExceeded(RuntimeException e) {
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(e.getMessage());
+    }
+
+    // 재고 행 Lock 을 얻지 못한 경우 대기 대신 잠시 후 재시도하도록 안내
+    @ExceptionHandler(StockBusyException.class)
+    public ResponseEntity<String> stockBusy(StockBusyException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .body(e.getMessage());
+    }
+}
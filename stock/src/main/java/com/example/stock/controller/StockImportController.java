@@ -0,0 +1,52 @@
+package com.example.stock.controller;
+
+import com.example.stock.exception.StockImportException;
+import com.example.stock.service.StockImportService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+import java.util.Map;
+
+/**
+ * 상품재고 일괄 적재 API
+ * 요청 본문을 그대로 스트리밍하여 처리하므로 큰 파일도 메모리에 올리지 않음
+ */
+@RestController
+@RequestMapping("/stocks")
+public class StockImportController {
+
+    // 일괄 적재 서비스 클래스
+    private final StockImportService stockImportService;
+
+    public StockImportController(StockImportService stockImportService) {
+        this.stockImportService = stockImportService;
+    }
+
+    /**
+     * 상품재고 일괄 적재
+     * 예) curl -X POST --data-binary @stocks.csv "localhost:8080/stocks/import?format=CSV&mode=REPLACE"
+     *     curl -X POST --data-binary @restock.jsonl "localhost:8080/stocks/import?format=JSONL&mode=RESTOCK"
+     * @param body      요청 본문 (CSV / JSON Lines)
+     * @param format    입력 형식
+     * @param mode      적재 방식 (덮어쓰기 / 입고)
+     */
+    @PostMapping("/import")
+    public StockImportService.Result importStocks(InputStream body,
+                                                  @RequestParam(defaultValue = "CSV") StockImportService.Format format,
+                                                  @RequestParam(defaultValue = "REPLACE") StockImportService.Mode mode) {
+        return stockImportService.importStocks(body, format, mode);
+    }
+
+    // 입력 오류면 400, 그 외는 500 (둘 다 이어서 적재할 수 있도록 커밋된 행 수 포함)
+    @ExceptionHandler(StockImportException.class)
+    public ResponseEntity<Map<String, Object>> importFailed(StockImportException e) {
+        HttpStatus status = e.getCause() instanceof IllegalArgumentException ? HttpStatus.BAD_REQUEST : HttpStatus.INTERNAL_SERVER_ERROR;
+        return ResponseEntity.status(status).body(Map.of("committedRows", e.getCommittedRows(), "message", e.getMessage()));
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.stock.controller;
+
+/**
+ * 재고 감소 API 에서 선택 가능한 동시성 제어 전략
+ */
+public enum StockStrategy {
+    PESSIMISTIC,    // 비관적 락 (Pessimistic Lock)
+    PESSIMISTIC_NOWAIT, // 비관적 락 (Pessimistic Lock) + NOWAIT, 점유 중이면 대기 없이 503
+    OPTIMISTIC,     // 낙관적 락 (Optimistic Lock) + 재시도
+    NAMED,          // 네임드 락 (Named Lock)
+    LETTUCE,        // Redis Lettuce spin Lock
+    REDISSON,       // Redis Redisson pub-sub Lock
+    JDBC            // JDBC 조건부 업데이트
+}
@@ -0,0 +1,31 @@
+package com.example.stock.deadline;
+
+import java.time.Duration;
+
+/**
+ * 요청 처리 기한
+ * 시스템 시계 변경의 영향을 받지 않도록 System.nanoTime 기준으로 계산
+ */
+public final class Deadline {
+
+    // 기한 (System.nanoTime 기준)
+    private final long deadlineNanos;
+
+    private Deadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    // 지금부터 timeout 뒤를 기한으로 생성
+    public static Deadline after(Duration timeout) {
+        return new Deadline(System.nanoTime() + timeout.toNanos());
+    }
+
+    // 남은 시간 (지났으면 0)
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(0, deadlineNanos - System.nanoTime()));
+    }
+
+    public boolean isExpired() {
+        return deadlineNanos - System.nanoTime() <= 0;
+    }
+}
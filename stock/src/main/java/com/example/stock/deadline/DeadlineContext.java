@@ -0,0 +1,83 @@
+package com.example.stock.deadline;
+
+import com.example.stock.exception.DeadlineExceededException;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.time.Duration;
+
+/**
+ * 현재 스레드에서 처리 중인 요청의 기한 보관
+ * DeadlineFilter 가 요청 시작 시 저장하고 종료 시 삭제, 기한이 없으면 (테스트, 스케줄러 등) 각 경로의 기본 대기 시간을 그대로 사용
+ * ThreadLocal 이므로 Mono 로 다른 스레드에서 이어지는 작업에는 전달되지 않음
+ * 논블로킹 경로는 요청 스레드에서 withCurrent 로 Reactor Context 에 옮겨 담고 bound(wait, operation, context) 로 사용
+ */
+public final class DeadlineContext {
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private DeadlineContext() {
+    }
+
+    // 현재 요청의 기한 (없으면 null)
+    public static Deadline current() {
+        return CURRENT.get();
+    }
+
+    public static void set(Deadline deadline) {
+        CURRENT.set(deadline);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    // 기한이 지났으면 DeadlineExceededException
+    public static void check(String operation) {
+        Deadline deadline = CURRENT.get();
+        if(deadline != null && deadline.isExpired()) {
+            throw new DeadlineExceededException(operation);
+        }
+    }
+
+    /**
+     * 대기 시간을 남은 시간 이내로 제한
+     * @param wait      기한이 없을 때 사용할 대기 시간
+     * @param operation 기한이 지났을 때 예외 메시지에 남길 작업 이름
+     * @return wait 와 남은 시간 중 짧은 값 (기한이 이미 지났으면 DeadlineExceededException)
+     */
+    public static Duration bound(Duration wait, String operation) {
+        return bound(CURRENT.get(), wait, operation);
+    }
+
+    // 현재 스레드의 기한을 Reactor Context 에 담기 (기한이 없으면 그대로 반환)
+    public static Context withCurrent(Context context) {
+        Deadline deadline = CURRENT.get();
+        return deadline == null ? context : context.put(Deadline.class, deadline);
+    }
+
+    // Reactor Context 에 담긴 기한 (없으면 null)
+    public static Deadline current(ContextView context) {
+        return context.getOrDefault(Deadline.class, null);
+    }
+
+    /**
+     * 대기 시간을 Reactor Context 에 담긴 기한의 남은 시간 이내로 제한 (논블로킹 경로용)
+     * @see #bound(Duration, String)
+     */
+    public static Duration bound(Duration wait, String operation, ContextView context) {
+        return bound(current(context), wait, operation);
+    }
+
+    private static Duration bound(Deadline deadline, Duration wait, String operation) {
+        if(deadline == null) {
+            return wait;
+        }
+
+        Duration remaining = deadline.remaining();
+        if(remaining.isZero()) {
+            throw new DeadlineExceededException(operation);
+        }
+        return remaining.compareTo(wait) < 0 ? remaining : wait;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.stock.deadline;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * 요청 처리 기한 설정 필터
+ * 클라이언트가 X-Request-Timeout (ms) 헤더로 보낸 시간, 없으면 기본 시간을 기한으로 잡아 DeadlineContext 에 저장
+ * 이후 Lock 대기, 트랜잭션 (JDBC 쿼리 타임아웃) 이 남은 시간 안에서만 기다리도록 제한
+ */
+@Component
+public class DeadlineFilter extends OncePerRequestFilter {
+
+    public static final String TIMEOUT_HEADER = "X-Request-Timeout";
+
+    // 일괄 적재처럼 요청 하나가 오래 걸리는 것이 정상인 경로는 기한을 두지 않음
+    private static final String IMPORT_PATH = "/stocks/import";
+
+    // 헤더가 없을 때 사용할 기한
+    private final Duration defaultTimeout;
+
+    // 헤더로 요청할 수 있는 최대 기한
+    private final Duration maxTimeout;
+
+    public DeadlineFilter(@Value("${stock.deadline.default-timeout:10s}") Duration defaultTimeout,
+                          @Value("${stock.deadline.max-timeout:30s}") Duration maxTimeout) {
+        this.defaultTimeout = defaultTimeout;
+        this.maxTimeout = maxTimeout;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return IMPORT_PATH.equals(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Duration timeout = defaultTimeout;
+        String header = request.getHeader(TIMEOUT_HEADER);
+        if(header != null) {
+            try {
+                timeout = Duration.ofMillis(Long.parseLong(header.trim()));
+            } catch(NumberFormatException e) {
+                response.sendError(HttpServletResponse.SC_BAD_REQUEST, TIMEOUT_HEADER + " 헤더는 밀리초 단위 숫자여야 합니다.");
+                return;
+            }
+            if(timeout.isNegative() || timeout.isZero()) {
+                response.sendError(HttpServletResponse.SC_BAD_REQUEST, TIMEOUT_HEADER + " 헤더는 1 이상이어야 합니다.");
+                return;
+            }
+        }
+        if(timeout.compareTo(maxTimeout) > 0) {
+            timeout = maxTimeout;
+        }
+
+        DeadlineContext.set(Deadline.after(timeout));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            DeadlineContext.clear();
+        }
+    }
+}
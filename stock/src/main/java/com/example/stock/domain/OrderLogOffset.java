@@ -0,0 +1,39 @@
+package com.example.stock.domain;
+
+import jakarta.persistence.*;
+
+/**
+ * 주문 로그 파티션별 소비 위치 (체크포인트)
+ * 재고 반영과 같은 트랜잭션에서 갱신되므로 재시작 후 이 위치부터 이어서 처리하면 중복 / 누락 없이 한 번만 반영됨
+ * 인스턴스마다 자신의 로컬 로그를 소비하므로 로그 아이디 (로그 디렉토리에 저장된 UUID) 와 파티션 번호로 구분
+ */
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_order_log_offset_log_partition", columnNames = {"log_id", "partition_id"}))
+public class OrderLogOffset {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(length = 36)
+    private String logId;           // 로그 아이디
+
+    private Integer partitionId;    // 파티션 번호
+
+    private Long nextOffset;        // 다음에 처리할 오프셋
+
+    public OrderLogOffset() {
+
+    }
+
+    public String getLogId() {
+        return logId;
+    }
+
+    public Integer getPartitionId() {
+        return partitionId;
+    }
+
+    public Long getNextOffset() {
+        return nextOffset;
+    }
+}
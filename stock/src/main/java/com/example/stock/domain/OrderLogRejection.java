@@ -0,0 +1,40 @@
+package com.example.stock.domain;
+
+import jakarta.persistence.*;
+
+/**
+ * 주문 로그에서 반영되지 않은 (재고 부족 / 없는 재고) 레코드
+ * 소비 위치와 같은 트랜잭션에서 저장되므로 소비 위치 이전의 레코드는 여기 없으면 반영 완료, 있으면 거절
+ */
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_order_log_rejection_record", columnNames = {"log_id", "partition_id", "record_offset"}))
+public class OrderLogRejection {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(length = 36)
+    private String logId;           // 로그 아이디
+
+    private Integer partitionId;    // 파티션 번호
+
+    private Long recordOffset;      // 파티션 안의 오프셋
+
+    @Column(length = 255)
+    private String reason;          // 거절 사유
+
+    public OrderLogRejection() {
+
+    }
+
+    public OrderLogRejection(String logId, Integer partitionId, Long recordOffset, String reason) {
+        this.logId = logId;
+        this.partitionId = partitionId;
+        this.recordOffset = recordOffset;
+        this.reason = reason;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.stock.domain;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+/**
+ * 처리 완료된 재고 감소 요청 (멱등성 키)
+ * 재고 감소와 같은 트랜잭션에서 저장되므로 이 행이 있으면 재고 감소도 반영된 것
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_processed_request_created_at", columnList = "created_at"))
+public class ProcessedRequest {
+
+    @Id
+    @Column(length = 100)
+    private String requestKey;  // 멱등성 키
+
+    private Long stockId;       // 상품재고 아이디
+
+    private Long quantity;      // 차감 수량
+
+    private Instant createdAt;  // 처리 시각 (만료 기준)
+
+    public ProcessedRequest() {
+
+    }
+
+    public String getRequestKey() {
+        return requestKey;
+    }
+}
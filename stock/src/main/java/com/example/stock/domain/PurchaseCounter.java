@@ -0,0 +1,36 @@
+package com.example.stock.domain;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+/**
+ * 사용자별 구매 수량 카운터 (DB 전략용)
+ */
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_purchase_counter_user_stock_bucket", columnNames = {"user_id", "stock_id", "bucket"}),
+        indexes = @Index(name = "idx_purchase_counter_expires_at", columnList = "expires_at"))
+public class PurchaseCounter {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long userId;        // 사용자 아이디
+
+    private Long stockId;       // 상품재고 아이디
+
+    @Column(length = 100)
+    private String bucket;      // 캠페인 (혹은 윈도우 구간) 키
+
+    private Long purchased;     // 구매 수량
+
+    private Instant expiresAt;  // 만료 시각
+
+    public PurchaseCounter() {
+
+    }
+
+    public Long getPurchased() {
+        return purchased;
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.stock.domain;
+
+import java.time.Duration;
+
+/**
+ * 사용자별 구매 한도
+ * @param scope         한도 적용 범위
+ * @param campaignId    캠페인 (행사) 아이디
+ * @param maxQuantity   기간 내 최대 구매 수량
+ * @param period        CAMPAIGN 은 캠페인 기간 (카운터 만료 시간), SLIDING_WINDOW 는 윈도우 길이
+ */
+public record PurchaseLimit(Scope scope, String campaignId, long maxQuantity, Duration period) {
+
+    public enum Scope {
+        CAMPAIGN,       // 캠페인 기간 전체에 대해 최대 N 개
+        SLIDING_WINDOW  // 최근 period 동안 최대 N 개
+    }
+
+    public static PurchaseLimit perCampaign(String campaignId, long maxQuantity, Duration campaignDuration) {
+        return new PurchaseLimit(Scope.CAMPAIGN, campaignId, maxQuantity, campaignDuration);
+    }
+
+    public static PurchaseLimit slidingWindow(String campaignId, long maxQuantity, Duration window) {
+        return new PurchaseLimit(Scope.SLIDING_WINDOW, campaignId, maxQuantity, window);
+    }
+
+    /**
+     * DB 카운터 행을 구분하는 키
+     * SQL 한 문장으로는 슬라이딩 윈도우를 표현할 수 없으므로 DB 경로에서는 윈도우 길이 단위의 고정 구간으로 근사
+     * @param nowMillis 현재 시각 (epoch millis)
+     */
+    public String bucketKey(long nowMillis) {
+        return scope == Scope.CAMPAIGN
+                ? campaignId
+                : campaignId + ":" + (nowMillis / period.toMillis());
+    }
+}
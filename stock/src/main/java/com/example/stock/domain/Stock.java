@@ -1,11 +1,14 @@
 package com.example.stock.domain;
 
+import com.example.stock.event.SoldOutEvent;
+import com.example.stock.exception.OutOfStockException;
 import jakarta.persistence.*;
 
 /**
  * 상품재고 엔티티
  */
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_stock_product_id", columnNames = "product_id"))
 public class Stock {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -18,6 +21,8 @@ public class Stock {
     @Version
     private Long version;       // 낙관적 락 (Optimistic Lock) 을 사용하기 위한 버전
 
+    private Long fencingToken;  // 마지막으로 반영된 분산 락 (Redis) 펜싱 토큰
+
     public Stock() {
 
     }
@@ -27,16 +32,46 @@ public class Stock {
         this.quantity = quantity;
     }
 
+    public Long getId() {
+        return id;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
     public Long getQuantity() {
         return quantity;
     }
 
+    public Long getFencingToken() {
+        return fencingToken;
+    }
+
     // 재고 감소 메소드
     public void decrease(Long quantity) {
+        checkDecreaseQuantity(quantity);
         if(this.quantity - quantity < 0) {
-            throw new RuntimeException("재고는 0개 미만이 될 수 없습니다.");
+            SoldOutEvent.record(id, productId, quantity, this.quantity);
+            throw new OutOfStockException();
         }
 
         this.quantity -= quantity;
     }
+
+    // 재고 증가 (입고) 메소드
+    public void increase(Long quantity) {
+        if(quantity <= 0) {
+            throw new IllegalArgumentException("입고 수량은 0개보다 커야 합니다.");
+        }
+
+        this.quantity += quantity;
+    }
+
+    // 감소 수량 확인 (0 이하를 빼면 재고가 늘어나므로 거절, 엔티티를 거치지 않는 JDBC / Redis 경로에서도 사용)
+    public static void checkDecreaseQuantity(Long quantity) {
+        if(quantity == null || quantity <= 0) {
+            throw new IllegalArgumentException("감소 수량은 0개보다 커야 합니다.");
+        }
+    }
 }
@@ -0,0 +1,11 @@
+package com.example.stock.domain;
+
+/**
+ * 상품재고 가용 수량 조회 결과 (읽기 전용 프로젝션)
+ * 엔티티가 아니므로 영속성 컨텍스트에서 관리되지 않음
+ * @param stockId   상품재고 아이디
+ * @param productId 상품 아이디
+ * @param quantity  가용 수량
+ */
+public record StockAvailability(Long stockId, Long productId, Long quantity) {
+}
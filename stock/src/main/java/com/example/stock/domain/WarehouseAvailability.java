@@ -0,0 +1,12 @@
+package com.example.stock.domain;
+
+/**
+ * 창고별 가용 재고 조회 결과 (읽기 전용 프로젝션)
+ * @param warehouseStockId  창고별 상품재고 아이디
+ * @param warehouseId       창고 아이디
+ * @param quantity          가용 수량
+ * @param latitude          창고 위도
+ * @param longitude         창고 경도
+ */
+public record WarehouseAvailability(Long warehouseStockId, Long warehouseId, Long quantity, Double latitude, Double longitude) {
+}
@@ -0,0 +1,63 @@
+package com.example.stock.domain;
+
+import com.example.stock.exception.OutOfStockException;
+import jakarta.persistence.*;
+
+/**
+ * 창고별 상품재고 엔티티
+ * 하나의 상품이 여러 창고에 나뉘어 보관되는 경우 창고 단위로 재고를 관리
+ */
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_warehouse_stock_product_warehouse", columnNames = {"product_id", "warehouse_id"}))
+public class WarehouseStock {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long productId;     // 상품 아이디
+
+    private Long warehouseId;   // 창고 아이디
+
+    private Double latitude;    // 창고 위도
+
+    private Double longitude;   // 창고 경도
+
+    private Long quantity;      // 창고별 상품 수량
+
+    public WarehouseStock() {
+
+    }
+
+    public WarehouseStock(Long productId, Long warehouseId, Double latitude, Double longitude, Long quantity) {
+        this.productId = productId;
+        this.warehouseId = warehouseId;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.quantity = quantity;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public Long getWarehouseId() {
+        return warehouseId;
+    }
+
+    public Long getQuantity() {
+        return quantity;
+    }
+
+    // 창고별 재고 감소 메소드
+    public void decrease(Long quantity) {
+        if(this.quantity - quantity < 0) {
+            throw new OutOfStockException();
+        }
+
+        this.quantity -= quantity;
+    }
+}
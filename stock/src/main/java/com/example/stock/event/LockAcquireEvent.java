@@ -0,0 +1,43 @@
+package com.example.stock.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Lock 획득 요청부터 획득 (혹은 실패) 까지의 대기 구간을 기록하는 JFR 이벤트
+ */
+@Name("com.example.stock.LockAcquire")
+@Label("Stock Lock Acquire")
+@Category({"Stock", "Lock"})
+@Description("Lock 요청부터 획득까지의 대기 시간")
+@StackTrace(false)
+public class LockAcquireEvent extends Event {
+
+    @Label("Strategy")
+    String strategy;        // Lock 전략 (LETTUCE / REDISSON / NAMED / PESSIMISTIC ...)
+
+    @Label("Key")
+    String key;             // Lock 키
+
+    @Label("Acquired")
+    boolean acquired;       // 획득 성공 여부
+
+    @Label("Attempts")
+    int attempts;           // 획득 시도 횟수 (spin Lock 재시도 포함)
+
+    // 대기 구간 종료 및 기록 (비활성화 상태에서는 필드 설정 없이 바로 반환)
+    public void complete(String strategy, String key, boolean acquired, int attempts) {
+        end();
+        if(shouldCommit()) {
+            this.strategy = strategy;
+            this.key = key;
+            this.acquired = acquired;
+            this.attempts = attempts;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.stock.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Lock 획득부터 해제까지의 점유 구간을 기록하는 JFR 이벤트
+ */
+@Name("com.example.stock.LockHold")
+@Label("Stock Lock Hold")
+@Category({"Stock", "Lock"})
+@Description("Lock 획득부터 해제까지의 점유 시간")
+@StackTrace(false)
+public class LockHoldEvent extends Event {
+
+    @Label("Strategy")
+    String strategy;        // Lock 전략
+
+    @Label("Key")
+    String key;             // Lock 키
+
+    // 점유 구간 종료 및 기록 (Lock 해제 시점에 호출)
+    public void release(String strategy, String key) {
+        end();
+        if(shouldCommit()) {
+            this.strategy = strategy;
+            this.key = key;
+            commit();
+        }
+    }
+}
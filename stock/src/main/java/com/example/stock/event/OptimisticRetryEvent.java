@@ -0,0 +1,39 @@
+package com.example.stock.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 낙관적 락 (Optimistic Lock) 충돌로 재시도할 때 기록하는 JFR 이벤트
+ */
+@Name("com.example.stock.OptimisticRetry")
+@Label("Stock Optimistic Retry")
+@Category({"Stock", "Lock"})
+@Description("낙관적 락 충돌로 인한 재시도")
+@StackTrace(false)
+public class OptimisticRetryEvent extends Event {
+
+    @Label("Stock Id")
+    long stockId;           // 상품재고 아이디
+
+    @Label("Attempt")
+    int attempt;            // 실패한 시도 회차
+
+    @Label("Cause")
+    Class<?> cause;         // 실패 원인 예외 클래스
+
+    // 재시도 기록
+    public static void record(Long stockId, int attempt, Throwable cause) {
+        OptimisticRetryEvent event = new OptimisticRetryEvent();
+        if(event.shouldCommit()) {
+            event.stockId = stockId;
+            event.attempt = attempt;
+            event.cause = cause.getClass();
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.stock.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 재고 부족으로 차감이 거절될 때 기록하는 JFR 이벤트
+ * 어느 경로에서 거절되었는지 확인할 수 있도록 기본적으로 스택 트레이스를 포함
+ */
+@Name("com.example.stock.SoldOut")
+@Label("Stock Sold Out")
+@Category({"Stock"})
+@Description("재고 부족으로 인한 차감 거절")
+public class SoldOutEvent extends Event {
+
+    @Label("Stock Id")
+    long stockId;           // 상품재고 아이디
+
+    @Label("Product Id")
+    long productId;         // 상품 아이디
+
+    @Label("Requested")
+    long requested;         // 요청 수량
+
+    @Label("Available")
+    long available;         // 남은 수량
+
+    // 재고 부족 기록
+    public static void record(Long stockId, Long productId, Long requested, Long available) {
+        SoldOutEvent event = new SoldOutEvent();
+        if(event.shouldCommit()) {
+            event.stockId = stockId == null ? 0 : stockId;
+            event.productId = productId == null ? 0 : productId;
+            event.requested = requested;
+            event.available = available;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.stock.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 재고 트랜잭션 시작부터 커밋 (혹은 롤백) 까지를 기록하는 JFR 이벤트
+ */
+@Name("com.example.stock.Transaction")
+@Label("Stock Transaction")
+@Category({"Stock", "Transaction"})
+@Description("재고 트랜잭션 시작부터 종료까지의 시간")
+@StackTrace(false)
+public class StockTransactionEvent extends Event {
+
+    @Label("Strategy")
+    String strategy;        // 동시성 제어 전략
+
+    @Label("Stock Id")
+    long stockId;           // 상품재고 아이디
+
+    @Label("Committed")
+    boolean committed;      // 커밋 여부 (false 면 롤백)
+
+    /**
+     * 현재 트랜잭션에 이벤트를 연결
+     * 트랜잭션 메소드 시작 시점에 호출하며 트랜잭션 종료 시점에 커밋 여부와 함께 기록
+     * 이벤트가 비활성화 상태면 동기화 객체도 등록하지 않음
+     * @param strategy  동시성 제어 전략
+     * @param stockId   상품재고 아이디
+     */
+    public static void track(String strategy, Long stockId) {
+        StockTransactionEvent event = new StockTransactionEvent();
+        if(!event.isEnabled() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        event.strategy = strategy;
+        event.stockId = stockId;
+        event.begin();
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                event.end();
+                if(event.shouldCommit()) {
+                    event.committed = status == STATUS_COMMITTED;
+                    event.commit();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.stock.event;
+
+/**
+ * JFR 이벤트에 기록하는 동시성 제어 전략 이름
+ */
+public final class Strategy {
+
+    public static final String NONE = "NONE";
+    public static final String SYNCHRONIZED = "SYNCHRONIZED";
+    public static final String PESSIMISTIC = "PESSIMISTIC";
+    public static final String OPTIMISTIC = "OPTIMISTIC";
+    public static final String NAMED = "NAMED";
+    public static final String LETTUCE = "LETTUCE";
+    public static final String REDISSON = "REDISSON";
+
+    private Strategy() {
+
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.stock.exception;
+
+/**
+ * 요청 처리 기한이 지나 더 기다리지 않고 포기했을 때 발생하는 예외
+ * 클라이언트는 이미 응답을 기다리지 않을 수 있으므로 Lock / 커넥션을 계속 점유하지 않고 빠르게 실패 처리
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+    public DeadlineExceededException(String operation) {
+        super("요청 처리 기한이 지났습니다. (" + operation + ")");
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.stock.exception;
+
+/**
+ * 다른 인스턴스가 전달한 요청을 받았지만 이 인스턴스가 보는 소유자가 자신이 아닐 때 발생하는 예외
+ * 멤버 구성이 아직 수렴하지 않은 경우이므로 다시 전달하지 않고 거절하여 인스턴스 사이에서 요청이 반복 전달되지 않도록 함
+ */
+public class NotOwnerException extends RuntimeException {
+
+    public NotOwnerException(Long stockId, String owner, String forwardedBy) {
+        super("이 인스턴스는 재고의 소유자가 아닙니다. (재고 아이디 : " + stockId + ", 소유자 : " + owner + ", 전달한 인스턴스 : " + forwardedBy + ")");
+    }
+}
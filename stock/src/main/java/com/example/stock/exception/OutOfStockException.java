@@ -0,0 +1,15 @@
+package com.example.stock.exception;
+
+/**
+ * 재고 부족으로 재고 감소가 불가능할 때 발생하는 예외
+ */
+public class OutOfStockException extends RuntimeException {
+
+    public OutOfStockException() {
+        super("재고는 0개 미만이 될 수 없습니다.");
+    }
+
+    public OutOfStockException(String message) {
+        super(message);
+    }
+}
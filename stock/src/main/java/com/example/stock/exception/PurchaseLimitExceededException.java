@@ -0,0 +1,11 @@
+package com.example.stock.exception;
+
+/**
+ * 사용자별 구매 한도를 넘는 요청일 때 발생하는 예외
+ */
+public class PurchaseLimitExceededException extends RuntimeException {
+
+    public PurchaseLimitExceededException(Long userId, Long stockId, long maxQuantity) {
+        super("구매 한도를 초과했습니다. userId=" + userId + ", stockId=" + stockId + ", 최대 " + maxQuantity + "개");
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.stock.exception;
+
+/**
+ * Lock 만료 후 뒤늦게 도착한 쓰기처럼, 이미 더 큰 펜싱 토큰으로 반영된 재고에 작은 토큰으로 쓰려 할 때 발생하는 예외
+ */
+public class StaleFencingTokenException extends RuntimeException {
+
+    public StaleFencingTokenException(Long stockId, Long token, Long currentToken) {
+        super("만료된 펜싱 토큰입니다. (재고 아이디 : " + stockId + ", 토큰 : " + token + ", 현재 토큰 : " + currentToken + ")");
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.stock.exception;
+
+/**
+ * 다른 트랜잭션이 재고 행 Lock 을 점유 중이라 대기하지 않고 (혹은 정해진 시간만 대기 후) 포기했을 때 발생하는 예외
+ * 호출자는 잠시 후 재시도하거나 요청을 다른 곳으로 돌릴 수 있음
+ */
+public class StockBusyException extends RuntimeException {
+
+    public StockBusyException(Long stockId, Throwable cause) {
+        super("다른 요청이 재고를 사용 중입니다. 잠시 후 다시 시도해 주세요. (재고 아이디 : " + stockId + ")", cause);
+    }
+
+    public StockBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.stock.exception;
+
+/**
+ * 일괄 적재 도중 실패했을 때 발생하는 예외
+ * 이미 커밋된 묶음은 되돌리지 않으므로 커밋된 행 수를 함께 전달하여 호출자가 이어서 적재할 위치를 알 수 있게 함
+ */
+public class StockImportException extends RuntimeException {
+
+    private final long committedRows;   // 실패 전까지 커밋된 행 수
+
+    public StockImportException(long committedRows, Throwable cause) {
+        super("재고 일괄 적재에 실패했습니다. (커밋된 행 : " + committedRows + ") " + cause.getMessage(), cause);
+        this.committedRows = committedRows;
+    }
+
+    public long getCommittedRows() {
+        return committedRows;
+    }
+}
@@ -1,40 +1,100 @@
 package com.example.stock.facade;
 
+import com.example.stock.deadline.DeadlineContext;
+import com.example.stock.event.LockAcquireEvent;
+import com.example.stock.event.LockHoldEvent;
+import com.example.stock.event.Strategy;
+import com.example.stock.exception.DeadlineExceededException;
+import com.example.stock.idempotency.DecreaseResult;
+import com.example.stock.idempotency.IdempotencyGuard;
 import com.example.stock.repository.RedisLockRepository;
+import com.example.stock.service.StockIdResolver;
 import com.example.stock.service.StockService;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.function.LongConsumer;
+
 /**
  * 로직 실행 전 후로 Lock 획득 / 해제를 수행하기 위한 Facade 클래스
  * Redis Lettuce 라이브러리 사용
+ * Lock 획득 시 발급받은 펜싱 토큰을 재고 감소에 함께 넘겨 Lock 만료 후 늦게 도착한 쓰기는 DB 에서 거절
  */
 @Component
 public class LettuceLockStockFacade {
 
+    // Lock 획득 재시도 간격
+    private static final Duration RETRY_INTERVAL = Duration.ofMillis(100);
+
     // Redis 사용을 위한 변수
     private final RedisLockRepository redisLockRepository;
 
     // 재고 감소 서비스 클래스
     private final StockService stockService;
 
-    public LettuceLockStockFacade(RedisLockRepository redisLockRepository, StockService stockService) {
+    // 멱등성 키 중복 확인
+    private final IdempotencyGuard idempotencyGuard;
+
+    // 상품 아이디 > 상품재고 아이디 변환 (Lock 키는 상품재고 아이디 기준)
+    private final StockIdResolver stockIdResolver;
+
+    public LettuceLockStockFacade(RedisLockRepository redisLockRepository, StockService stockService, IdempotencyGuard idempotencyGuard,
+                                  StockIdResolver stockIdResolver) {
         this.redisLockRepository = redisLockRepository;
         this.stockService = stockService;
+        this.idempotencyGuard = idempotencyGuard;
+        this.stockIdResolver = stockIdResolver;
     }
 
     // 재고 감소 메소드
     public void decrease(Long id, Long quantity) throws InterruptedException {
-        // Lock 획득 실패한 경우 재시도
-        while(!redisLockRepository.lock(id)) {
+        executeWithLock(id, token -> stockService.decreaseWithFencingToken(Strategy.LETTUCE, id, quantity, token));
+    }
+
+    // 재고 감소 메소드 (상품 아이디 사용)
+    public void decreaseByProductId(Long productId, Long quantity) throws InterruptedException {
+        stockIdResolver.execute(productId, id -> executeWithLock(id, token -> stockService.decreaseWithFencingToken(Strategy.LETTUCE, id, quantity, token)));
+    }
+
+    // 재고 감소 메소드 (멱등성 키 사용, 이미 처리된 키는 Lock 획득 없이 바로 반환)
+    public DecreaseResult decrease(String requestKey, Long id, Long quantity) throws InterruptedException {
+        return idempotencyGuard.execute(requestKey, () -> executeWithLock(id, token -> stockService.decreaseWithFencingToken(requestKey, Strategy.LETTUCE, id, quantity, token)));
+    }
+
+    // 재고 증가 (입고) 메소드
+    public void increase(Long id, Long quantity) throws InterruptedException {
+        executeWithLock(id, token -> stockService.increaseWithFencingToken(Strategy.LETTUCE, id, quantity, token));
+    }
+
+    // Lock 획득 후 로직 수행, 수행 후 Lock 해제
+    private void executeWithLock(Long id, LongConsumer task) throws InterruptedException {
+        LockAcquireEvent acquireEvent = new LockAcquireEvent();
+        acquireEvent.begin();
+        int attempts = 1;
+        Long token;
+
+        // Lock 획득 실패한 경우 재시도 (요청 기한이 지나면 포기)
+        while((token = redisLockRepository.lockWithFencingToken(id)) == null) {
             // Redis 부하 줄이기 위한 텀 주기
-            Thread.sleep(100);
+            try {
+                Thread.sleep(DeadlineContext.bound(RETRY_INTERVAL, "Lettuce Lock 획득").toMillis());
+            } catch (DeadlineExceededException e) {
+                acquireEvent.complete(Strategy.LETTUCE, id.toString(), false, attempts);
+                throw e;
+            }
+            attempts++;
         }
+        acquireEvent.complete(Strategy.LETTUCE, id.toString(), true, attempts);
+
+        LockHoldEvent holdEvent = new LockHoldEvent();
+        holdEvent.begin();
 
-        // Lock 획득 성공한 경우 재고 감소 로직 수행 후 Lock 해제
+        // Lock 획득 성공한 경우 재고 변경 로직 수행 후 Lock 해제
         try {
-            stockService.decrease(id, quantity);
+            task.accept(token);
         } finally {
-            redisLockRepository.unLock(id);
+            redisLockRepository.unLock(id, token);
+            holdEvent.release(Strategy.LETTUCE, id.toString());
         }
 
     }
@@ -1,38 +1,121 @@
 package com.example.stock.facade;
 
+import com.example.stock.deadline.DeadlineContext;
+import com.example.stock.event.LockAcquireEvent;
+import com.example.stock.event.LockHoldEvent;
+import com.example.stock.event.Strategy;
+import com.example.stock.exception.StockBusyException;
+import com.example.stock.idempotency.DecreaseResult;
+import com.example.stock.idempotency.IdempotencyGuard;
 import com.example.stock.repository.LockRepository;
+import com.example.stock.service.StockIdResolver;
 import com.example.stock.service.StockService;
 import jakarta.transaction.Transactional;
+import org.springframework.jdbc.datasource.DataSourceUtils;
 import org.springframework.stereotype.Component;
 
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+
 /**
  * 실제 로직 전 후로 Lock 획득 및 해제를 위한 네임드 락 관련 클래스
  */
 @Component
 public class NamedLockStockFacade {
 
+    // 요청 기한이 없을 때 Lock 획득 최대 대기 시간
+    private static final Duration LOCK_WAIT = Duration.ofSeconds(3000);
+
     // 네임드 락 관련 서비스 인터페이스
     private final LockRepository lockRepository;
 
     // 재고 감소 서비스 클래스
     private final StockService stockService;
 
-    public NamedLockStockFacade(LockRepository lockRepository, StockService stockService) {
+    // 멱등성 키 중복 확인
+    private final IdempotencyGuard idempotencyGuard;
+
+    // 상품 아이디 > 상품재고 아이디 변환 (Lock 키는 상품재고 아이디 기준)
+    private final StockIdResolver stockIdResolver;
+
+    // Lock 해제용 (트랜잭션에 묶인 커넥션을 그대로 사용)
+    private final DataSource dataSource;
+
+    public NamedLockStockFacade(LockRepository lockRepository, StockService stockService, IdempotencyGuard idempotencyGuard,
+                                StockIdResolver stockIdResolver, DataSource dataSource) {
         this.lockRepository = lockRepository;
         this.stockService = stockService;
+        this.idempotencyGuard = idempotencyGuard;
+        this.stockIdResolver = stockIdResolver;
+        this.dataSource = dataSource;
     }
 
     // 재고 감소 메소드
     @Transactional
     public void decrease(Long id, Long quantity) {
+        executeWithLock(id, () -> stockService.decreaseUsingNamedLock(id, quantity));
+    }
+
+    // 재고 감소 메소드 (상품 아이디 사용)
+    @Transactional
+    public void decreaseByProductId(Long productId, Long quantity) {
+        stockIdResolver.execute(productId, id -> executeWithLock(id, () -> stockService.decreaseUsingNamedLock(id, quantity)));
+    }
+
+    // 재고 감소 메소드 (멱등성 키 사용, 이미 처리된 키는 Lock 획득 없이 바로 반환)
+    @Transactional
+    public DecreaseResult decrease(String requestKey, Long id, Long quantity) throws InterruptedException {
+        return idempotencyGuard.execute(requestKey, () -> executeWithLock(id, () -> stockService.decreaseUsingNamedLock(requestKey, id, quantity)));
+    }
+
+    // 재고 증가 (입고) 메소드
+    @Transactional
+    public void increase(Long id, Long quantity) {
+        executeWithLock(id, () -> stockService.increaseUsingNamedLock(id, quantity));
+    }
+
+    // Lock 획득 후 로직 수행, 수행 후 Lock 해제
+    private void executeWithLock(Long id, Runnable task) {
+        // Lock 획득 (요청 기한이 있으면 남은 시간만 대기, get_lock 은 초 단위이므로 올림)
+        LockAcquireEvent acquireEvent = new LockAcquireEvent();
+        acquireEvent.begin();
+        Duration wait = DeadlineContext.bound(LOCK_WAIT, "네임드 락 획득");
+        Long acquired = lockRepository.getLock(id.toString(), Math.max(1, (wait.toMillis() + 999) / 1000));
+        boolean available = acquired != null && acquired == 1;
+        acquireEvent.complete(Strategy.NAMED, id.toString(), available, 1);
+        if(!available) {
+            DeadlineContext.check("네임드 락 획득");
+            throw new StockBusyException(id, null);
+        }
+
+        // Lock 획득 성공한 경우에만 재고 변경 후 Lock 해제
+        LockHoldEvent holdEvent = new LockHoldEvent();
+        holdEvent.begin();
         try {
-            // Lock 획득
-            lockRepository.getLock(id.toString());
-            // 재고 감소
-            stockService.decreaseUsingNamedLock(id, quantity);
+            task.run();
+        } finally {
+            releaseLock(id.toString());
+            holdEvent.release(Strategy.NAMED, id.toString());
+        }
+    }
+
+    /*
+     * 네임드 락은 세션 (커넥션) 에 묶여 있어 해제하지 못하면 커넥션 풀로 돌아간 뒤에도 남아 있음
+     * JdbcTemplate (ConnectionCallback 포함) 은 실행 전에 트랜잭션 타임아웃을 적용하므로 요청 기한이 지나면 TransactionTimedOutException 으로 해제하지 못함
+     * 따라서 트랜잭션에 묶인 커넥션 (get_lock 을 실행한 커넥션) 을 DataSourceUtils 로 직접 받아 타임아웃 없이 해제
+     */
+    private void releaseLock(String key) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try(PreparedStatement statement = connection.prepareStatement("select release_lock(?)")) {
+            statement.setString(1, key);
+            statement.execute();
+        } catch(SQLException e) {
+            throw new IllegalStateException("네임드 락 해제에 실패했습니다. (키 : " + key + ")", e);
         } finally {
-            // Lock 해제
-            lockRepository.releaseLock(id.toString());
+            DataSourceUtils.releaseConnection(connection, dataSource);
         }
     }
 
@@ -1,30 +1,77 @@
 package com.example.stock.facade;
 
+import com.example.stock.deadline.DeadlineContext;
+import com.example.stock.event.OptimisticRetryEvent;
+import com.example.stock.idempotency.DecreaseResult;
+import com.example.stock.idempotency.IdempotencyGuard;
 import com.example.stock.service.OptimisticLockStockService;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 /**
  * 낙관적 락 (Optimistic Lock) 실패 했을때 재시도를 위한 클래스
  */
 @Component
 public class OptimisticLockStockFacade {
 
+    // 재시도 간격
+    private static final Duration RETRY_INTERVAL = Duration.ofMillis(50);
+
     // 낙관적 락 서비스 클래스 필드 추가
     private final OptimisticLockStockService optimisticLockStockService;
 
-    public OptimisticLockStockFacade(OptimisticLockStockService optimisticLockStockService) {
+    // 멱등성 키 중복 확인
+    private final IdempotencyGuard idempotencyGuard;
+
+    public OptimisticLockStockFacade(OptimisticLockStockService optimisticLockStockService, IdempotencyGuard idempotencyGuard) {
         this.optimisticLockStockService = optimisticLockStockService;
+        this.idempotencyGuard = idempotencyGuard;
     }
 
     // 재고 감소 실패 시 재시도를 위한 메소드
     public void decrease(Long id, Long quantity) throws InterruptedException {
-        // 성공할 때 까지 반복문을 통해 업데이트 수행
-        while(true) {
+        retry(id, () -> optimisticLockStockService.decrease(id, quantity));
+    }
+
+    // 재고 감소 실패 시 재시도를 위한 메소드 (상품 아이디 사용)
+    public void decreaseByProductId(Long productId, Long quantity) throws InterruptedException {
+        retry(productId, () -> optimisticLockStockService.decreaseByProductId(productId, quantity));
+    }
+
+    /**
+     * 재고 감소 실패 시 재시도를 위한 메소드 (멱등성 키 사용)
+     * 이전 시도가 실제로는 커밋되었는데 예외로 끝난 경우에도 재시도 시 중복으로 판단되어 재고가 두 번 감소하지 않음
+     */
+    public DecreaseResult decrease(String requestKey, Long id, Long quantity) throws InterruptedException {
+        for(int attempt = 1; ; attempt++) {
+            try {
+                return idempotencyGuard.execute(requestKey, () -> optimisticLockStockService.decrease(requestKey, id, quantity));
+            } catch(OptimisticLockingFailureException e) {
+                OptimisticRetryEvent.record(id, attempt, e);
+                Thread.sleep(DeadlineContext.bound(RETRY_INTERVAL, "낙관적 락 재시도").toMillis());
+            }
+        }
+    }
+
+    // 재고 증가 (입고) 실패 시 재시도를 위한 메소드
+    public void increase(Long id, Long quantity) throws InterruptedException {
+        retry(id, () -> optimisticLockStockService.increase(id, quantity));
+    }
+
+    private void retry(Long id, Runnable task) throws InterruptedException {
+        /*
+         * 버전 충돌이 없을 때 까지 (요청 기한이 있으면 기한 안에서) 반복문을 통해 업데이트 수행
+         * 재고 부족 / 없는 재고 / 잘못된 수량 / DB 장애 등 버전 충돌이 아닌 예외는 재시도해도 성공할 수 없으므로 그대로 전달
+         */
+        for(int attempt = 1; ; attempt++) {
             try {
-                optimisticLockStockService.decrease(id, quantity);
+                task.run();
                 break;
-            } catch(Exception e) {
-                Thread.sleep(50);
+            } catch(OptimisticLockingFailureException e) {
+                OptimisticRetryEvent.record(id, attempt, e);
+                Thread.sleep(DeadlineContext.bound(RETRY_INTERVAL, "낙관적 락 재시도").toMillis());
             }
         }
     }
@@ -0,0 +1,70 @@
+package com.example.stock.facade;
+
+import com.example.stock.deadline.Deadline;
+import com.example.stock.deadline.DeadlineContext;
+import com.example.stock.domain.Stock;
+import com.example.stock.exception.DeadlineExceededException;
+import com.example.stock.exception.StockBusyException;
+import com.example.stock.repository.ReactiveRedisLockRepository;
+import com.example.stock.service.ReactiveStockService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 로직 실행 전 후로 Lock 획득 / 해제를 수행하기 위한 논블로킹 Facade 클래스 (stock.reactive.enabled=true 일 때만 동작)
+ * LettuceLockStockFacade 와 같은 Lock / 펜싱 토큰을 사용하지만 Lock 대기 중 Thread.sleep 대신 타이머로 재시도하므로
+ * 대기 중인 요청이 스레드를 점유하지 않음 (대기 요청 수가 스레드 풀 크기에 묶이지 않음)
+ */
+@Component
+@ConditionalOnProperty(name = "stock.reactive.enabled", havingValue = "true")
+public class ReactiveLockStockFacade {
+
+    // Lock 획득 재시도 간격 (LettuceLockStockFacade 와 동일)
+    private static final Duration RETRY_INTERVAL = Duration.ofMillis(100);
+
+    // 논블로킹 Redis Lock
+    private final ReactiveRedisLockRepository reactiveRedisLockRepository;
+
+    // 논블로킹 재고 감소 서비스 클래스
+    private final ReactiveStockService reactiveStockService;
+
+    // 요청 기한이 없을 때 Lock 획득 최대 대기 시간 (초과 시 StockBusyException)
+    private final Duration lockWait;
+
+    public ReactiveLockStockFacade(ReactiveRedisLockRepository reactiveRedisLockRepository, ReactiveStockService reactiveStockService,
+                                   @Value("${stock.reactive.lock-wait:10s}") Duration lockWait) {
+        this.reactiveRedisLockRepository = reactiveRedisLockRepository;
+        this.reactiveStockService = reactiveStockService;
+        this.lockWait = lockWait;
+    }
+
+    // 재고 감소 메소드
+    public Mono<Void> decrease(Long id, Long quantity) {
+        return Mono.<Void>fromRunnable(() -> Stock.checkDecreaseQuantity(quantity)).then(Mono.usingWhen(acquire(id),
+                token -> reactiveStockService.decreaseWithFencingToken(id, quantity, token),
+                token -> reactiveRedisLockRepository.unLock(id, token)));
+    }
+
+    /*
+     * Lock 획득 (실패 시 RETRY_INTERVAL 후 재시도)
+     * 요청 기한이 Reactor Context 에 있으면 (DeadlineContext.withCurrent) 남은 시간과 lockWait 중 짧은 시간만 대기
+     * 대기 시간 초과 시 기한이 지났으면 DeadlineExceededException, 아니면 StockBusyException
+     */
+    private Mono<Long> acquire(Long id) {
+        return Mono.deferContextual(context -> {
+            Deadline deadline = DeadlineContext.current(context);
+            Duration wait = DeadlineContext.bound(lockWait, "Reactive Lock 획득", context);
+            return Mono.defer(() -> reactiveRedisLockRepository.lockWithFencingToken(id))
+                    .repeatWhenEmpty(attempts -> attempts.delayElements(RETRY_INTERVAL))
+                    .timeout(wait)
+                    .onErrorMap(TimeoutException.class, e -> deadline != null && deadline.isExpired()
+                            ? new DeadlineExceededException("Reactive Lock 획득")
+                            : new StockBusyException(id, e));
+        });
+    }
+}
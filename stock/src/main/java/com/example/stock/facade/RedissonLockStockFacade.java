@@ -1,53 +1,119 @@
 package com.example.stock.facade;
 
+import com.example.stock.deadline.DeadlineContext;
+import com.example.stock.event.LockAcquireEvent;
+import com.example.stock.event.LockHoldEvent;
+import com.example.stock.event.Strategy;
+import com.example.stock.exception.StockBusyException;
+import com.example.stock.idempotency.DecreaseResult;
+import com.example.stock.idempotency.IdempotencyGuard;
+import com.example.stock.service.StockIdResolver;
 import com.example.stock.service.StockService;
-import org.redisson.api.RLock;
+import org.redisson.api.RFencedLock;
 import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
 
 /**
  * Redis Redisson 사용을 위한 클래스
+ * Redisson 펜싱 락 (RFencedLock) 으로 Lock 획득과 펜싱 토큰 발급을 한 번에 처리하고
+ * 토큰을 재고 변경에 함께 넘겨 Lease 만료 후 늦게 도착한 쓰기는 DB 에서 거절
+ * 토큰은 펜싱 락의 카운터에서 발급되므로 Lettuce 토큰과는 별개의 순서 (한 상품에는 한 가지 분산 락 전략만 사용)
  */
 
 @Component
 public class RedissonLockStockFacade {
 
+    // 요청 기한이 없을 때 Lock 획득 최대 대기 시간
+    private static final Duration LOCK_WAIT = Duration.ofSeconds(10);
+
     // Lock 획득에 사용할 클라이언트 선언
     private final RedissonClient redissonClient;
 
     // 재고 감소 서비스 클래스
     private final StockService stockService;
 
-    public RedissonLockStockFacade(RedissonClient redissonClient, StockService stockService) {
+    // 멱등성 키 중복 확인
+    private final IdempotencyGuard idempotencyGuard;
+
+    // Lock 점유 시간 (펜싱 토큰으로 늦은 쓰기를 막으므로 짧게 잡을 수 있음)
+    private final Duration leaseTime;
+
+    // 상품 아이디 > 상품재고 아이디 변환 (Lock 키는 상품재고 아이디 기준)
+    private final StockIdResolver stockIdResolver;
+
+    public RedissonLockStockFacade(RedissonClient redissonClient, StockService stockService, IdempotencyGuard idempotencyGuard,
+                                   @Value("${stock.lock.redisson.lease:1000ms}") Duration leaseTime,
+                                   StockIdResolver stockIdResolver) {
         this.redissonClient = redissonClient;
         this.stockService = stockService;
+        this.idempotencyGuard = idempotencyGuard;
+        this.leaseTime = leaseTime;
+        this.stockIdResolver = stockIdResolver;
     }
 
     // 재고 감소 메소드
     public void decrease(Long id, Long quantity) {
-        // Redisson client 를 활용하여 Lock 인스턴스 생성
-        RLock rLock = redissonClient.getLock(id.toString());
+        executeWithLock(id, token -> stockService.decreaseWithFencingToken(Strategy.REDISSON, id, quantity, token));
+    }
+
+    // 재고 감소 메소드 (상품 아이디 사용)
+    public void decreaseByProductId(Long productId, Long quantity) {
+        stockIdResolver.execute(productId, id -> executeWithLock(id, token -> stockService.decreaseWithFencingToken(Strategy.REDISSON, id, quantity, token)));
+    }
+
+    // 재고 감소 메소드 (멱등성 키 사용, 이미 처리된 키는 Lock 획득 없이 바로 반환)
+    public DecreaseResult decrease(String requestKey, Long id, Long quantity) throws InterruptedException {
+        return idempotencyGuard.execute(requestKey, () -> executeWithLock(id, token -> stockService.decreaseWithFencingToken(requestKey, Strategy.REDISSON, id, quantity, token)));
+    }
+
+    // 재고 증가 (입고) 메소드
+    public void increase(Long id, Long quantity) {
+        executeWithLock(id, token -> stockService.increaseWithFencingToken(Strategy.REDISSON, id, quantity, token));
+    }
+
+    // Lock 획득 후 로직 수행, 수행 후 Lock 해제
+    private void executeWithLock(Long id, LongConsumer task) {
+        // Redisson client 를 활용하여 펜싱 락 인스턴스 생성
+        RFencedLock rLock = redissonClient.getFencedLock(id.toString());
+        LockAcquireEvent acquireEvent = new LockAcquireEvent();
+        LockHoldEvent holdEvent = new LockHoldEvent();
+        boolean available = false;
 
         try {
-            // 몇 초 동안 Lock 획득 시도할 건지, 몇 초 동안 점유할 건지 작성
-            boolean available = rLock.tryLock(10, 1, TimeUnit.SECONDS);
+            // 몇 초 동안 Lock 획득 시도할 건지 (요청 기한이 있으면 남은 시간까지), 몇 초 동안 점유할 건지 작성
+            acquireEvent.begin();
+            Duration wait = DeadlineContext.bound(LOCK_WAIT, "Redisson Lock 획득");
+            Long token = rLock.tryLockAndGetToken(wait.toMillis(), leaseTime.toMillis(), TimeUnit.MILLISECONDS);
+            available = token != null;
+            acquireEvent.complete(Strategy.REDISSON, id.toString(), available, 1);
 
-            // Lock 획득 실패 시 로그
+            // Lock 획득 실패 시 예외 (요청 기한이 지나서 실패한 경우는 기한 초과 예외)
             if(!available) {
-                System.out.println("Lock 획득 실패");
-                return;
+                DeadlineContext.check("Redisson Lock 획득");
+                throw new StockBusyException(id, null);
             }
 
-            // 재고 감소 로직 수행
-            stockService.decrease(id, quantity);
+            // 점유 구간은 Lock 획득에 성공한 경우에만 기록
+            holdEvent.begin();
+
+            // Lock 획득 시 함께 발급받은 펜싱 토큰으로 재고 변경 로직 수행
+            task.accept(token);
 
         } catch (InterruptedException e) {
             throw new RuntimeException(e);
         } finally {
-            // Lock 해제
-            rLock.unlock();
+            // Lock 해제 (Lease 가 이미 만료되었거나 획득하지 못한 경우 unlock 시 예외가 발생하므로 점유 중일 때만 해제)
+            if(rLock.isHeldByCurrentThread()) {
+                rLock.unlock();
+            }
+            if(available) {
+                holdEvent.release(Strategy.REDISSON, id.toString());
+            }
         }
     }
 
@@ -0,0 +1,146 @@
+package com.example.stock.facade;
+
+import com.example.stock.deadline.Deadline;
+import com.example.stock.deadline.DeadlineContext;
+import com.example.stock.deadline.DeadlineFilter;
+import com.example.stock.domain.Stock;
+import com.example.stock.exception.DeadlineExceededException;
+import com.example.stock.exception.NotOwnerException;
+import com.example.stock.exception.OutOfStockException;
+import com.example.stock.routing.InstanceRegistry;
+import com.example.stock.routing.ProductOwnership;
+import com.example.stock.service.JdbcStockService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.HttpURLConnection;
+import java.time.Duration;
+
+/**
+ * 상품 소유 인스턴스로 요청을 보내 처리하기 위한 Facade 클래스
+ * 여러 인스턴스가 같은 상품의 분산 락을 두고 경쟁하는 대신
+ * 상품마다 정해진 소유 인스턴스 한 곳에서 JVM 내부 Lock 으로 직렬화하여 처리
+ */
+@Component
+@ConditionalOnProperty(name = "stock.routing.enabled", havingValue = "true")
+public class RoutingStockFacade {
+
+    // 다른 인스턴스에서 전달된 요청임을 나타내는 헤더 (값은 전달한 인스턴스 아이디)
+    public static final String FORWARDED_HEADER = "X-Stock-Forwarded";
+
+    // 받은 인스턴스가 소유자가 아니라서 거절한 경우의 응답 코드 (421 Misdirected Request)
+    public static final int MISDIRECTED_REQUEST = 421;
+
+    // 요청 기한이 없을 때 소유 인스턴스 연결 / 응답 최대 대기 시간
+    private static final Duration CONNECT_TIMEOUT = Duration.ofMillis(500);
+    private static final Duration READ_TIMEOUT = Duration.ofSeconds(5);
+
+    // 상품 소유권 관리
+    private final ProductOwnership productOwnership;
+
+    // 인스턴스 주소 조회를 위한 레지스트리
+    private final InstanceRegistry instanceRegistry;
+
+    // 재고 감소 서비스 클래스 (소유자가 겹치는 순간에도 초과 판매되지 않도록 조건부 업데이트 사용)
+    private final JdbcStockService jdbcStockService;
+
+    // 소유 인스턴스로 요청 전달을 위한 클라이언트
+    private final RestClient restClient;
+
+    public RoutingStockFacade(ProductOwnership productOwnership, InstanceRegistry instanceRegistry, JdbcStockService jdbcStockService) {
+        this.productOwnership = productOwnership;
+        this.instanceRegistry = instanceRegistry;
+        this.jdbcStockService = jdbcStockService;
+
+        // 연결 / 응답 대기 시간을 요청마다 남은 기한 이내로 제한 (요청 스레드에서 연결을 준비하므로 DeadlineContext 사용 가능)
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory() {
+            @Override
+            protected void prepareConnection(HttpURLConnection connection, String httpMethod) throws IOException {
+                super.prepareConnection(connection, httpMethod);
+                connection.setConnectTimeout(toTimeoutMillis(DeadlineContext.bound(CONNECT_TIMEOUT, "소유 인스턴스 연결")));
+                connection.setReadTimeout(toTimeoutMillis(DeadlineContext.bound(READ_TIMEOUT, "소유 인스턴스 응답 대기")));
+            }
+        };
+        this.restClient = RestClient.builder().requestFactory(requestFactory).build();
+    }
+
+    // 재고 감소 메소드
+    public void decrease(Long id, Long quantity) {
+        // 잘못된 수량은 전달하지 않고 바로 거절
+        Stock.checkDecreaseQuantity(quantity);
+
+        String owner = productOwnership.ownerOf(id);
+        String ownerUrl = owner == null || owner.equals(productOwnership.instanceId()) ? null : instanceRegistry.urlOf(owner);
+
+        // 소유자가 자신이거나 아직 멤버 정보가 없는 경우 로컬 처리
+        if(ownerUrl == null) {
+            decreaseLocally(id, quantity);
+            return;
+        }
+
+        try {
+            restClient.post()
+                    .uri(ownerUrl + "/internal/stocks/{id}/decrease?quantity={quantity}", id, quantity)
+                    .header(FORWARDED_HEADER, productOwnership.instanceId())
+                    .headers(headers -> {
+                        // 남은 기한을 함께 전달하여 소유 인스턴스도 같은 기한 안에서만 Lock / 쿼리를 기다리도록 함
+                        Deadline deadline = DeadlineContext.current();
+                        if(deadline != null) {
+                            headers.set(DeadlineFilter.TIMEOUT_HEADER,
+                                    String.valueOf(toTimeoutMillis(DeadlineContext.bound(READ_TIMEOUT, "소유 인스턴스 전달"))));
+                        }
+                    })
+                    .retrieve()
+                    .toBodilessEntity();
+        } catch(HttpClientErrorException.Conflict e) {
+            throw new OutOfStockException();
+        } catch(HttpClientErrorException e) {
+            // 소유자 판단이 엇갈린 경우 (멤버 구성 수렴 전) 다시 전달하지 않고 로컬 처리 (조건부 업데이트로 초과 판매는 방지)
+            if(e.getStatusCode().value() != MISDIRECTED_REQUEST) {
+                throw e;
+            }
+            decreaseLocally(id, quantity);
+        } catch(HttpServerErrorException.GatewayTimeout e) {
+            // 소유 인스턴스에서 전달한 기한이 지난 경우
+            throw new DeadlineExceededException("소유 인스턴스 처리");
+        } catch(ResourceAccessException e) {
+            // 연결 자체가 안 된 경우에만 로컬 처리 (응답 대기 중 실패는 반영 여부를 알 수 없으므로 그대로 실패 처리)
+            if(!(e.getCause() instanceof ConnectException)) {
+                // 기한에 걸려 대기를 끊은 경우 (DeadlineContext.bound) 504 로 응답하도록 변환
+                DeadlineContext.check("소유 인스턴스 응답 대기");
+                throw e;
+            }
+            decreaseLocally(id, quantity);
+        }
+    }
+
+    // HttpURLConnection 은 0 을 무제한 대기로 처리하므로 1ms 미만 남은 경우에도 최소 1ms 로 제한
+    private static int toTimeoutMillis(Duration timeout) {
+        return (int) Math.max(1, Math.min(Integer.MAX_VALUE, timeout.toMillis()));
+    }
+
+    /**
+     * 다른 인스턴스에서 전달된 요청 처리
+     * 전달된 요청은 다시 전달하지 않으며, 이 인스턴스가 보는 소유자가 다른 인스턴스라면 NotOwnerException 으로 거절
+     * @param forwardedBy   요청을 전달한 인스턴스 아이디
+     */
+    public void decreaseForwarded(Long id, Long quantity, String forwardedBy) {
+        String owner = productOwnership.ownerOf(id);
+        if(owner != null && !owner.equals(productOwnership.instanceId())) {
+            throw new NotOwnerException(id, owner, forwardedBy);
+        }
+        decreaseLocally(id, quantity);
+    }
+
+    // 소유자로서 로컬 처리
+    public void decreaseLocally(Long id, Long quantity) {
+        productOwnership.runAsOwner(id, () -> jdbcStockService.decrease(id, quantity));
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.stock.facade;
+
+import com.example.stock.allocation.Allocation;
+import com.example.stock.allocation.AllocationPolicy;
+import com.example.stock.allocation.AllocationRequest;
+import com.example.stock.exception.OutOfStockException;
+import com.example.stock.repository.WarehouseStockRepository;
+import com.example.stock.service.WarehouseStockService;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 여러 창고 중 할당 정책에 따라 출고 창고를 선택하고 재고를 차감하기 위한 Facade 클래스
+ * 후보 창고의 가용 재고는 프로젝션 쿼리 한 번으로 조회하고, 조회 이후 재고가 바뀐 경우 재시도
+ */
+@Component
+public class WarehouseAllocationFacade {
+
+    // 할당 충돌 시 최대 재시도 횟수
+    private static final int MAX_ATTEMPTS = 5;
+
+    // 창고별 상품재고 조회를 위한 변수
+    private final WarehouseStockRepository warehouseStockRepository;
+
+    // 창고별 재고 차감 서비스 클래스
+    private final WarehouseStockService warehouseStockService;
+
+    public WarehouseAllocationFacade(WarehouseStockRepository warehouseStockRepository, WarehouseStockService warehouseStockService) {
+        this.warehouseStockRepository = warehouseStockRepository;
+        this.warehouseStockService = warehouseStockService;
+    }
+
+    // 창고 재고 할당 메소드
+    public List<Allocation> allocate(AllocationRequest request, AllocationPolicy policy) throws InterruptedException {
+        for(int attempt = 1; ; attempt++) {
+            List<Allocation> allocations = policy.allocate(request, warehouseStockRepository.findAvailabilitiesByProductId(request.productId()));
+
+            if(allocations.isEmpty()) {
+                throw new OutOfStockException("할당 가능한 창고 재고가 부족합니다.");
+            }
+
+            try {
+                warehouseStockService.commit(allocations);
+                return allocations;
+            } catch(OptimisticLockingFailureException e) {
+                // 조회 이후 다른 요청이 재고를 가져간 경우 최신 재고로 다시 할당
+                if(attempt >= MAX_ATTEMPTS) {
+                    throw e;
+                }
+                Thread.sleep(10);
+            }
+        }
+    }
+}
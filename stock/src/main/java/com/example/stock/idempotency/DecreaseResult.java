@@ -0,0 +1,9 @@
+package com.example.stock.idempotency;
+
+/**
+ * 멱등성 키를 사용한 재고 감소 결과
+ */
+public enum DecreaseResult {
+    APPLIED,    // 이번 요청으로 재고 감소가 반영됨
+    DUPLICATE   // 같은 키로 이미 반영된 요청 (재고는 다시 감소하지 않음)
+}
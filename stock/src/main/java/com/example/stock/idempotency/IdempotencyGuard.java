@@ -0,0 +1,76 @@
+package com.example.stock.idempotency;
+
+import com.example.stock.repository.ProcessedRequestRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 멱등성 키 중복 확인
+ * 처음 보는 키는 블룸 필터에서 바로 걸러져 DB 조회 없이 진행하고,
+ * 블룸 필터가 "있을 수 있음" 이라고 답한 경우에만 DB 의 처리 완료 키를 조회함
+ * 키 저장은 재고 감소와 같은 트랜잭션에서 수행되므로 블룸 필터가 비어 있어도 (재시작 등) PK 제약으로 중복이 걸러짐
+ */
+@Component
+public class IdempotencyGuard {
+
+    // 처리 완료 키 저장소
+    private final ProcessedRequestRepository processedRequestRepository;
+
+    // 최근 처리된 키를 담는 블룸 필터
+    private final RotatingBloomFilter recentKeys;
+
+    // 키 보관 기간
+    private final Duration ttl;
+
+    public IdempotencyGuard(ProcessedRequestRepository processedRequestRepository,
+                            @Value("${stock.idempotency.ttl:24h}") Duration ttl,
+                            @Value("${stock.idempotency.expected-keys:1000000}") int expectedKeys) {
+        this.processedRequestRepository = processedRequestRepository;
+        this.ttl = ttl;
+        this.recentKeys = new RotatingBloomFilter(expectedKeys, 0.01, ttl.toNanos());
+    }
+
+    /**
+     * 중복이 아닌 경우에만 작업 수행
+     * @param requestKey    멱등성 키
+     * @param work          키 저장과 재고 감소를 한 트랜잭션에서 수행하는 작업
+     */
+    public DecreaseResult execute(String requestKey, Work work) throws InterruptedException {
+        if(recentKeys.mightContain(requestKey) && processedRequestRepository.existsById(requestKey)) {
+            return DecreaseResult.DUPLICATE;
+        }
+
+        try {
+            work.run();
+        } catch(DataIntegrityViolationException e) {
+            // 동시에 들어온 같은 키의 요청이 먼저 커밋된 경우
+            if(!processedRequestRepository.existsById(requestKey)) {
+                throw e;
+            }
+            recentKeys.put(requestKey);
+            return DecreaseResult.DUPLICATE;
+        }
+
+        recentKeys.put(requestKey);
+        return DecreaseResult.APPLIED;
+    }
+
+    // 보관 기간이 지난 키 정리
+    @Scheduled(fixedDelayString = "${stock.idempotency.purge-interval:PT1M}")
+    public void purgeExpired() {
+        processedRequestRepository.deleteCreatedBefore(Instant.now().minus(ttl));
+    }
+
+    /**
+     * 멱등성 키로 보호되는 작업
+     */
+    @FunctionalInterface
+    public interface Work {
+        void run() throws InterruptedException;
+    }
+}
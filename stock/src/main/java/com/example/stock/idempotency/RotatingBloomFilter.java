@@ -0,0 +1,108 @@
+package com.example.stock.idempotency;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 일정 주기마다 세대를 교체하는 블룸 필터
+ * 현재 세대와 직전 세대 두 개를 유지하므로 추가된 키는 최소 한 주기 동안 남아있고 메모리는 두 세대 크기로 고정됨
+ * "없음" 응답은 항상 정확하고 "있을 수 있음" 응답은 일정 확률로 틀릴 수 있음
+ */
+public class RotatingBloomFilter {
+
+    private final int bitCount;         // 세대별 비트 수
+    private final int hashCount;        // 키 하나당 해시 수
+    private final long rotationNanos;   // 세대 교체 주기
+
+    private volatile AtomicLongArray current;
+    private volatile AtomicLongArray previous;
+    private volatile long nextRotationAt;
+
+    /**
+     * @param expectedKeys      한 주기 동안 들어올 것으로 예상되는 키 개수
+     * @param falsePositiveRate 허용 오탐률
+     * @param rotationNanos     세대 교체 주기
+     */
+    public RotatingBloomFilter(int expectedKeys, double falsePositiveRate, long rotationNanos) {
+        double bits = -expectedKeys * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+        this.bitCount = (int) Math.max(64, Math.min(Integer.MAX_VALUE - 63, Math.ceil(bits)));
+        this.hashCount = (int) Math.max(1, Math.round(bitCount / (double) expectedKeys * Math.log(2)));
+        this.rotationNanos = rotationNanos;
+        this.current = newGeneration();
+        this.previous = newGeneration();
+        this.nextRotationAt = System.nanoTime() + rotationNanos;
+    }
+
+    public void put(String key) {
+        rotateIfDue();
+        long[] hashes = hash(key);
+        AtomicLongArray bits = current;
+        for(int i = 0; i < hashCount; i++) {
+            int index = index(hashes, i);
+            long mask = 1L << index;
+            int word = index >>> 6;
+            long value;
+            do {
+                value = bits.get(word);
+            } while((value & mask) == 0 && !bits.compareAndSet(word, value, value | mask));
+        }
+    }
+
+    public boolean mightContain(String key) {
+        rotateIfDue();
+        long[] hashes = hash(key);
+        return contains(current, hashes) || contains(previous, hashes);
+    }
+
+    private boolean contains(AtomicLongArray bits, long[] hashes) {
+        for(int i = 0; i < hashCount; i++) {
+            int index = index(hashes, i);
+            if((bits.get(index >>> 6) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void rotateIfDue() {
+        if(System.nanoTime() - nextRotationAt < 0) {
+            return;
+        }
+
+        synchronized(this) {
+            if(System.nanoTime() - nextRotationAt >= 0) {
+                previous = current;
+                current = newGeneration();
+                nextRotationAt = System.nanoTime() + rotationNanos;
+            }
+        }
+    }
+
+    private AtomicLongArray newGeneration() {
+        return new AtomicLongArray((bitCount + 63) >>> 6);
+    }
+
+    // 두 개의 해시 값을 조합하여 hashCount 개의 위치를 만듦 (Kirsch-Mitzenmacher)
+    private int index(long[] hashes, int i) {
+        long combined = hashes[0] + i * hashes[1];
+        return (int) ((combined & Long.MAX_VALUE) % bitCount);
+    }
+
+    // FNV-1a 64 비트 해시와 그 값을 한 번 더 섞은 값
+    private static long[] hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for(byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+
+        long h2 = h;
+        h2 ^= h2 >>> 33;
+        h2 *= 0xff51afd7ed558ccdL;
+        h2 ^= h2 >>> 33;
+        h2 *= 0xc4ceb9fe1a85ec53L;
+        h2 ^= h2 >>> 33;
+
+        return new long[]{h, h2 | 1};
+    }
+}
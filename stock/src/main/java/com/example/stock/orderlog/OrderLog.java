@@ -0,0 +1,166 @@
+package com.example.stock.orderlog;
+
+import com.example.stock.domain.Stock;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 외부 브로커 없이 동작하는 파티션 주문 로그
+ * 재고 감소 요청을 로컬 디스크의 파티션 로그에 덧붙인 뒤 바로 반환하고, 파티션별 소비자가 순서대로 묶어서 DB 에 반영
+ *  . 파티션 = hash(재고 아이디) % 파티션 수, 같은 재고의 요청은 한 소비자만 처리하므로 Lock 없이 순서 보장
+ *  . 기록은 fsync 까지 마친 뒤 반환하므로 재시작해도 요청이 사라지지 않음
+ *  . 소비 위치는 재고 반영과 같은 트랜잭션으로 order_log_offset 테이블에 저장되어 재시작 후 이어서 처리
+ *
+ * 로그 파일은 인스턴스 로컬 디스크에 있으므로 인스턴스가 여러 대라면 각자의 로그를 각자 소비함
+ * 소비 위치가 서로 덮어쓰이지 않도록 로그 디렉토리를 처음 만들 때 로그 아이디 (UUID) 를 발급해 저장하고 (log-id 파일)
+ * 소비 위치와 거절 기록은 (로그 아이디, 파티션) 기준으로 저장
+ */
+@Component
+@ConditionalOnProperty(name = "stock.order-log.enabled", havingValue = "true")
+public class OrderLog {
+
+    // 로그 아이디를 저장하는 파일 이름 (로그 디렉토리 바로 아래)
+    private static final String LOG_ID_FILE = "log-id";
+
+    // 로그 디렉토리 (파티션별 하위 디렉토리 생성)
+    private final Path directory;
+
+    // 로그 아이디 (start 에서 로그 디렉토리로부터 읽거나 새로 발급)
+    private String logId;
+
+    private final int partitionCount;
+
+    // 세그먼트 하나에 담을 최대 레코드 수
+    private final long segmentRecords;
+
+    // 소비자가 한 트랜잭션에서 반영할 최대 레코드 수
+    private final int batchSize;
+
+    private final OrderLogApplier applier;
+
+    private final List<OrderLogPartition> partitions = new ArrayList<>();
+
+    private final List<OrderLogConsumer> consumers = new ArrayList<>();
+
+    private final List<Thread> threads = new ArrayList<>();
+
+    public OrderLog(@Value("${stock.order-log.directory:order-log}") String directory,
+                    @Value("${stock.order-log.partitions:8}") int partitionCount,
+                    @Value("${stock.order-log.segment-records:1000000}") long segmentRecords,
+                    @Value("${stock.order-log.batch-size:500}") int batchSize,
+                    OrderLogApplier applier) {
+        this.directory = Path.of(directory);
+        this.partitionCount = partitionCount;
+        this.segmentRecords = segmentRecords;
+        this.batchSize = batchSize;
+        this.applier = applier;
+    }
+
+    // 파티션을 열고 DB 에 저장된 소비 위치부터 파티션별 소비자 시작
+    @PostConstruct
+    public void start() throws IOException {
+        logId = loadOrCreateLogId();
+
+        for(int i = 0; i < partitionCount; i++) {
+            OrderLogPartition partition = new OrderLogPartition(i, directory.resolve("partition-" + i), segmentRecords);
+            long committed = Math.max(applier.committedOffset(logId, i), partition.earliestOffset());
+            if(committed > partition.flushedOffset()) {
+                throw new IllegalStateException("주문 로그가 DB 에 저장된 소비 위치보다 짧습니다. 로그 디렉토리를 확인해 주세요. (partition : "
+                        + i + ", 소비 위치 : " + committed + ", 로그 끝 : " + partition.flushedOffset() + ")");
+            }
+
+            OrderLogConsumer consumer = new OrderLogConsumer(logId, partition, applier, batchSize, committed);
+            Thread thread = new Thread(consumer, "order-log-consumer-" + i);
+            partitions.add(partition);
+            consumers.add(consumer);
+            threads.add(thread);
+        }
+        threads.forEach(Thread::start);
+    }
+
+    // 소비자 종료 후 파일 닫기 (처리 중인 묶음은 끝까지 반영)
+    @PreDestroy
+    public void stop() throws InterruptedException, IOException {
+        consumers.forEach(OrderLogConsumer::stop);
+        for(Thread thread : threads) {
+            thread.join();
+        }
+        for(OrderLogPartition partition : partitions) {
+            partition.close();
+        }
+    }
+
+    // 재고가 기록되는 파티션 번호
+    public int partitionOf(Long stockId) {
+        return Math.floorMod(Long.hashCode(stockId), partitionCount);
+    }
+
+    /**
+     * 재고 감소 요청 기록
+     * 디스크 반영 (fsync) 까지 마친 뒤 반환하며 DB 반영은 소비자가 비동기로 처리
+     * @param stockId   상품재고 아이디
+     * @param quantity  감소 수량
+     * @return          파티션, 오프셋, 반영 완료 알림
+     */
+    public OrderLogReceipt append(Long stockId, Long quantity) {
+        // 기록된 레코드는 되돌릴 수 없으므로 잘못된 수량은 기록 전에 거절
+        Stock.checkDecreaseQuantity(quantity);
+        OrderLogPartition partition = partitions.get(partitionOf(stockId));
+        CompletableFuture<Void> completion = new CompletableFuture<>();
+
+        try {
+            long offset = partition.append(new OrderLogRecord(stockId, quantity), completion);
+            partition.flush(offset);
+            return new OrderLogReceipt(partition.id(), offset, completion);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public String logId() {
+        return logId;
+    }
+
+    /**
+     * 레코드 처리 결과 조회 (재시작 전에 기록한 요청도 조회 가능)
+     * 소비 위치 이전의 레코드는 거절 기록이 있으면 REJECTED, 없으면 APPLIED
+     */
+    public OrderLogRecordStatus status(int partition, long offset) {
+        if(partition < 0 || partition >= partitionCount) {
+            throw new NoSuchElementException("존재하지 않는 파티션입니다. (partition : " + partition + ")");
+        }
+        if(offset >= consumers.get(partition).committedOffset()) {
+            return OrderLogRecordStatus.PENDING;
+        }
+        return applier.rejectionReason(logId, partition, offset)
+                .map(OrderLogRecordStatus::rejected)
+                .orElse(OrderLogRecordStatus.APPLIED);
+    }
+
+    // 로그 디렉토리의 로그 아이디 읽기 (처음이면 새로 발급해 디스크까지 반영)
+    private String loadOrCreateLogId() throws IOException {
+        Path file = directory.resolve(LOG_ID_FILE);
+        if(Files.exists(file)) {
+            return Files.readString(file).trim();
+        }
+
+        Files.createDirectories(directory);
+        String created = UUID.randomUUID().toString();
+        Files.writeString(file, created, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE, StandardOpenOption.SYNC);
+        return created;
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.stock.orderlog;
+
+import com.example.stock.domain.OrderLogRejection;
+import com.example.stock.exception.OutOfStockException;
+import com.example.stock.repository.OrderLogOffsetRepository;
+import com.example.stock.repository.OrderLogRejectionRepository;
+import com.example.stock.repository.RedisPurchaseLimitRepository;
+import com.example.stock.repository.StockRepository;
+import com.example.stock.service.BackOrderWaitlist;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+/**
+ * 주문 로그 레코드를 묶음 단위로 DB 에 반영
+ * 재고 감소와 소비 위치 저장을 한 트랜잭션으로 처리하여 재시작 후에도 각 레코드가 정확히 한 번만 반영되도록 보장
+ */
+@Component
+@ConditionalOnProperty(name = "stock.order-log.enabled", havingValue = "true")
+public class OrderLogApplier {
+
+    // 상품재고 CRUD 를 위한 변수 선언
+    private final StockRepository stockRepository;
+
+    // 파티션별 소비 위치 저장소
+    private final OrderLogOffsetRepository orderLogOffsetRepository;
+
+    // 거절된 레코드 저장소
+    private final OrderLogRejectionRepository orderLogRejectionRepository;
+
+    // 입고 대기열 (대기자가 있으면 레코드를 재고 부족으로 처리)
+    private final BackOrderWaitlist backOrderWaitlist;
+
+    // Redis 에 올라간 재고 (반영 후 삭제)
+    private final RedisPurchaseLimitRepository redisPurchaseLimitRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public OrderLogApplier(StockRepository stockRepository,
+                           OrderLogOffsetRepository orderLogOffsetRepository,
+                           OrderLogRejectionRepository orderLogRejectionRepository,
+                           BackOrderWaitlist backOrderWaitlist,
+                           RedisPurchaseLimitRepository redisPurchaseLimitRepository,
+                           PlatformTransactionManager transactionManager) {
+        this.stockRepository = stockRepository;
+        this.orderLogOffsetRepository = orderLogOffsetRepository;
+        this.orderLogRejectionRepository = orderLogRejectionRepository;
+        this.backOrderWaitlist = backOrderWaitlist;
+        this.redisPurchaseLimitRepository = redisPurchaseLimitRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // 로그의 파티션별 다음 처리 오프셋 (처음이면 0)
+    public long committedOffset(String logId, int partition) {
+        return orderLogOffsetRepository.findNextOffset(logId, partition).orElse(0L);
+    }
+
+    // 처리를 마친 레코드의 거절 사유 (반영되었다면 비어 있음)
+    public Optional<String> rejectionReason(String logId, int partition, long offset) {
+        return orderLogRejectionRepository.findReason(logId, partition, offset);
+    }
+
+    /**
+     * 레코드 묶음 반영
+     * 재고 부족 / 없는 재고는 해당 레코드만 실패로 기록하고 나머지는 계속 반영
+     * 실패한 레코드는 소비 위치와 같은 트랜잭션으로 저장하여 재시작 후에도 레코드별 결과를 조회할 수 있게 함
+     * @param logId         로그 아이디
+     * @param partition     파티션 번호
+     * @param fromOffset    첫 레코드의 오프셋
+     * @param records       반영할 레코드
+     * @return              레코드별 실패 원인 (성공이면 null)
+     */
+    public List<RuntimeException> apply(String logId, int partition, long fromOffset, List<OrderLogRecord> records) {
+        return transactionTemplate.execute(status -> {
+            List<RuntimeException> failures = new ArrayList<>(records.size());
+            for(int i = 0; i < records.size(); i++) {
+                RuntimeException failure = applyOne(records.get(i));
+                if(failure != null) {
+                    orderLogRejectionRepository.save(new OrderLogRejection(logId, partition, fromOffset + i, failure.getMessage()));
+                }
+                failures.add(failure);
+            }
+            orderLogOffsetRepository.upsert(logId, partition, fromOffset + records.size());
+            return failures;
+        });
+    }
+
+    private RuntimeException applyOne(OrderLogRecord record) {
+        try {
+            backOrderWaitlist.rejectIfQueued(record.stockId(), record.quantity());
+        } catch(OutOfStockException e) {
+            return e;
+        }
+
+        if(stockRepository.decreaseIfAvailable(record.stockId(), record.quantity()) == 1) {
+            redisPurchaseLimitRepository.evictStockAfterCommit(record.stockId());
+            return null;
+        }
+        return stockRepository.existsById(record.stockId())
+                ? new OutOfStockException()
+                : new NoSuchElementException("재고가 존재하지 않습니다. (재고 아이디 : " + record.stockId() + ")");
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.stock.orderlog;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 파티션 하나를 전담하는 소비자
+ * 파티션 안의 레코드를 순서대로 묶어서 반영하므로 같은 재고에 대한 요청끼리 Lock 경합이 생기지 않음
+ */
+final class OrderLogConsumer implements Runnable {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderLogConsumer.class);
+
+    // 새 레코드가 없을 때 대기 시간
+    private static final long IDLE_WAIT_MILLIS = 100;
+
+    // DB 반영 실패 시 재시도 전 대기 시간
+    private static final long RETRY_BACKOFF_MILLIS = 1_000;
+
+    // 로그 아이디 (소비 위치 / 거절 기록의 구분값)
+    private final String logId;
+
+    private final OrderLogPartition partition;
+
+    private final OrderLogApplier applier;
+
+    // 한 트랜잭션에서 반영할 최대 레코드 수
+    private final int batchSize;
+
+    // 다음에 처리할 오프셋 (이 오프셋 전까지는 DB 에 반영 완료)
+    private volatile long committedOffset;
+
+    private volatile boolean running = true;
+
+    OrderLogConsumer(String logId, OrderLogPartition partition, OrderLogApplier applier, int batchSize, long committedOffset) {
+        this.logId = logId;
+        this.partition = partition;
+        this.applier = applier;
+        this.batchSize = batchSize;
+        this.committedOffset = committedOffset;
+    }
+
+    long committedOffset() {
+        return committedOffset;
+    }
+
+    void stop() {
+        running = false;
+    }
+
+    @Override
+    public void run() {
+        while(running) {
+            long offset = committedOffset;
+            try {
+                List<OrderLogRecord> batch = partition.read(offset, batchSize);
+                if(batch.isEmpty()) {
+                    partition.awaitFlushed(offset, IDLE_WAIT_MILLIS);
+                    continue;
+                }
+
+                // 재고 반영과 소비 위치 저장을 한 트랜잭션으로 처리한 뒤 요청자에게 결과 알림
+                List<RuntimeException> failures = applier.apply(logId, partition.id(), offset, batch);
+                committedOffset = offset + batch.size();
+                for(int i = 0; i < failures.size(); i++) {
+                    partition.complete(offset + i, failures.get(i));
+                }
+
+                partition.deleteSegmentsBefore(committedOffset);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (IOException | RuntimeException e) {
+                // 소비 위치를 옮기지 않았으므로 같은 묶음부터 다시 시도
+                log.warn("주문 로그 반영 실패 (partition : {}, offset : {})", partition.id(), offset, e);
+                try {
+                    Thread.sleep(RETRY_BACKOFF_MILLIS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.stock.orderlog;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * 주문 로그 파티션
+ * 같은 재고의 요청은 항상 같은 파티션에 기록되므로 파티션 안의 순서가 곧 재고별 처리 순서
+ *
+ * 기록 절차
+ *  1) append : 파티션 Lock 안에서 활성 세그먼트에 덧붙이고 오프셋 부여 (운영체제 캐시까지만 기록)
+ *  2) flush  : 디스크 반영 (fsync), 동시에 기록된 요청들은 한 번의 fsync 로 함께 반영 (group commit)
+ *  3) 소비자는 디스크에 반영된 오프셋 (flushedOffset) 까지만 읽으므로 재시작 후 사라질 수 있는 요청은 처리하지 않음
+ */
+final class OrderLogPartition implements Closeable {
+
+    private final int id;
+
+    private final Path directory;
+
+    // 세그먼트 하나에 담을 최대 레코드 수
+    private final long segmentRecords;
+
+    // 첫 오프셋 순으로 정렬된 세그먼트 (파티션 Lock 으로 보호)
+    private final TreeMap<Long, OrderLogSegment> segments = new TreeMap<>();
+
+    // 처리 완료를 기다리는 요청 (오프셋 > 완료 알림)
+    private final Map<Long, CompletableFuture<Void>> pending = new ConcurrentHashMap<>();
+
+    // fsync 는 한 번에 하나만 수행
+    private final Object flushLock = new Object();
+
+    // 다음에 부여할 오프셋 (파티션 Lock 으로 보호)
+    private long nextOffset;
+
+    // 디스크에 반영된 마지막 오프셋 + 1
+    private volatile long flushedOffset;
+
+    OrderLogPartition(int id, Path directory, long segmentRecords) throws IOException {
+        this.id = id;
+        this.directory = Files.createDirectories(directory);
+        this.segmentRecords = segmentRecords;
+        recover();
+    }
+
+    // 기존 세그먼트를 열고 마지막 세그먼트의 깨진 레코드 정리
+    private void recover() throws IOException {
+        List<Path> files;
+        try(Stream<Path> stream = Files.list(directory)) {
+            files = stream.filter(OrderLogSegment::isSegmentFile).sorted().toList();
+        }
+
+        for(int i = 0; i < files.size(); i++) {
+            OrderLogSegment segment = OrderLogSegment.open(files.get(i), i == files.size() - 1);
+            segments.put(segment.baseOffset(), segment);
+        }
+        if(segments.isEmpty()) {
+            segments.put(0L, OrderLogSegment.create(directory, 0));
+        }
+
+        nextOffset = segments.lastEntry().getValue().endOffset();
+        flushedOffset = nextOffset;
+    }
+
+    int id() {
+        return id;
+    }
+
+    // 보관 중인 가장 오래된 오프셋
+    synchronized long earliestOffset() {
+        return segments.firstKey();
+    }
+
+    long flushedOffset() {
+        return flushedOffset;
+    }
+
+    /**
+     * 레코드 기록 후 오프셋 반환
+     * 완료 알림은 오프셋 부여와 같은 Lock 안에서 등록하여 다른 요청의 flush 로 먼저 처리되더라도 알림이 누락되지 않도록 함
+     */
+    synchronized long append(OrderLogRecord record, CompletableFuture<Void> completion) throws IOException {
+        OrderLogSegment active = segments.lastEntry().getValue();
+        if(active.records() >= segmentRecords) {
+            // 이전 세그먼트는 더 이상 기록되지 않으므로 디스크에 반영 후 교체
+            active.force();
+            active = OrderLogSegment.create(directory, nextOffset);
+            segments.put(nextOffset, active);
+        }
+
+        active.append(record);
+        pending.put(nextOffset, completion);
+        return nextOffset++;
+    }
+
+    // offset 까지 디스크에 반영 (이미 다른 요청의 fsync 로 반영되었으면 바로 반환)
+    void flush(long offset) throws IOException {
+        if(flushedOffset > offset) {
+            return;
+        }
+
+        synchronized(flushLock) {
+            if(flushedOffset > offset) {
+                return;
+            }
+
+            long end;
+            OrderLogSegment active;
+            synchronized(this) {
+                end = nextOffset;
+                active = segments.lastEntry().getValue();
+            }
+            active.force();
+            flushedOffset = end;
+        }
+
+        synchronized(this) {
+            notifyAll();
+        }
+    }
+
+    // offset 이후의 레코드가 디스크에 반영될 때까지 최대 timeoutMillis 대기
+    synchronized void awaitFlushed(long offset, long timeoutMillis) throws InterruptedException {
+        if(flushedOffset <= offset) {
+            wait(timeoutMillis);
+        }
+    }
+
+    // fromOffset 부터 디스크에 반영된 레코드 최대 maxRecords 건 읽기
+    List<OrderLogRecord> read(long fromOffset, int maxRecords) throws IOException {
+        long to = flushedOffset;
+        if(fromOffset >= to) {
+            return List.of();
+        }
+
+        OrderLogSegment segment;
+        synchronized(this) {
+            Map.Entry<Long, OrderLogSegment> entry = segments.floorEntry(fromOffset);
+            if(entry == null) {
+                throw new IOException("이미 삭제된 오프셋입니다. (partition : " + id + ", offset : " + fromOffset + ")");
+            }
+            segment = entry.getValue();
+        }
+        return segment.read(fromOffset, to, maxRecords);
+    }
+
+    // 처리 결과 알림 (재시작 전에 기록된 요청은 알림 대상이 없으므로 무시)
+    void complete(long offset, RuntimeException failure) {
+        CompletableFuture<Void> completion = pending.remove(offset);
+        if(completion == null) {
+            return;
+        }
+
+        if(failure == null) {
+            completion.complete(null);
+        } else {
+            completion.completeExceptionally(failure);
+        }
+    }
+
+    // offset 이전의 레코드만 담은 세그먼트 삭제 (활성 세그먼트는 유지)
+    synchronized void deleteSegmentsBefore(long offset) throws IOException {
+        while(segments.size() > 1) {
+            OrderLogSegment oldest = segments.firstEntry().getValue();
+            if(oldest.endOffset() > offset) {
+                return;
+            }
+            segments.pollFirstEntry();
+            oldest.delete();
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        for(OrderLogSegment segment : segments.values()) {
+            segment.force();
+            segment.close();
+        }
+        pending.values().forEach(completion -> completion.cancel(false));
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.stock.orderlog;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 주문 로그 기록 결과
+ * 같은 프로세스 안에서는 completion 으로 반영 완료를 기다리고, 재시작을 넘어서는 (partition, offset) 으로 반영 여부를 조회
+ * @param partition     파티션 번호
+ * @param offset        파티션 안의 오프셋
+ * @param completion    DB 반영 완료 시 완료 (재고 부족이면 OutOfStockException, 없는 재고면 NoSuchElementException 으로 실패)
+ */
+public record OrderLogReceipt(int partition, long offset, @JsonIgnore CompletableFuture<Void> completion) {
+}
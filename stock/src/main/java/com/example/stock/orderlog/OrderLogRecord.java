@@ -0,0 +1,36 @@
+package com.example.stock.orderlog;
+
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+
+/**
+ * 주문 로그에 기록되는 재고 감소 요청 한 건
+ * 고정 길이 (재고 아이디 8 + 수량 8 + CRC32 4 = 20 바이트) 로 기록하여 오프셋만으로 파일 위치를 계산
+ * @param stockId   상품재고 아이디
+ * @param quantity  감소 수량
+ */
+public record OrderLogRecord(long stockId, long quantity) {
+
+    public static final int SIZE = Long.BYTES + Long.BYTES + Integer.BYTES;
+
+    // 버퍼의 현재 위치에 기록
+    public void writeTo(ByteBuffer buffer) {
+        buffer.putLong(stockId);
+        buffer.putLong(quantity);
+        buffer.putInt(checksum(stockId, quantity));
+    }
+
+    // 버퍼의 현재 위치에서 읽기, 체크섬이 맞지 않으면 (기록 도중 중단된 레코드) null 반환
+    public static OrderLogRecord readFrom(ByteBuffer buffer) {
+        long stockId = buffer.getLong();
+        long quantity = buffer.getLong();
+        int checksum = buffer.getInt();
+        return checksum == checksum(stockId, quantity) ? new OrderLogRecord(stockId, quantity) : null;
+    }
+
+    private static int checksum(long stockId, long quantity) {
+        CRC32 crc = new CRC32();
+        crc.update(ByteBuffer.allocate(Long.BYTES + Long.BYTES).putLong(stockId).putLong(quantity).flip());
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.stock.orderlog;
+
+/**
+ * 주문 로그 레코드 처리 결과
+ * @param state     처리 상태
+ * @param reason    거절 사유 (REJECTED 일 때만)
+ */
+public record OrderLogRecordStatus(State state, String reason) {
+
+    public enum State {
+        PENDING,    // 아직 소비자가 처리하지 않음
+        APPLIED,    // 재고 감소 반영
+        REJECTED    // 처리했지만 재고 부족 / 없는 재고로 반영하지 않음
+    }
+
+    static final OrderLogRecordStatus PENDING = new OrderLogRecordStatus(State.PENDING, null);
+    static final OrderLogRecordStatus APPLIED = new OrderLogRecordStatus(State.APPLIED, null);
+
+    static OrderLogRecordStatus rejected(String reason) {
+        return new OrderLogRecordStatus(State.REJECTED, reason);
+    }
+
+    // 소비자가 처리를 마쳤는지 (반영 / 거절 모두 포함)
+    public boolean processed() {
+        return state != State.PENDING;
+    }
+}
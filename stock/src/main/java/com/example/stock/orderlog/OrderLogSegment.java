@@ -0,0 +1,148 @@
+package com.example.stock.orderlog;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 파티션을 구성하는 세그먼트 파일 하나
+ * 파일 이름은 세그먼트의 첫 오프셋 (baseOffset) 이며 레코드는 덧붙이기만 함
+ */
+final class OrderLogSegment implements Closeable {
+
+    private static final String SUFFIX = ".log";
+
+    private final long baseOffset;
+
+    private final Path path;
+
+    private final FileChannel channel;
+
+    // 기록된 레코드 수 (파티션 Lock 안에서만 변경)
+    private volatile long records;
+
+    private OrderLogSegment(long baseOffset, Path path, FileChannel channel, long records) {
+        this.baseOffset = baseOffset;
+        this.path = path;
+        this.channel = channel;
+        this.records = records;
+    }
+
+    // 새 세그먼트 생성
+    static OrderLogSegment create(Path directory, long baseOffset) throws IOException {
+        Path path = directory.resolve(fileName(baseOffset));
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new OrderLogSegment(baseOffset, path, channel, 0);
+    }
+
+    /**
+     * 기존 세그먼트 열기
+     * 마지막 세그먼트는 비정상 종료로 레코드가 일부만 기록되었을 수 있으므로 처음부터 체크섬을 확인하여 깨진 지점 이후를 잘라냄
+     */
+    static OrderLogSegment open(Path path, boolean recover) throws IOException {
+        long baseOffset = Long.parseLong(path.getFileName().toString().replace(SUFFIX, ""));
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long records = channel.size() / OrderLogRecord.SIZE;
+
+        if(recover) {
+            records = countValidRecords(channel, records);
+            channel.truncate(records * OrderLogRecord.SIZE);
+            channel.force(true);
+        }
+        return new OrderLogSegment(baseOffset, path, channel, records);
+    }
+
+    static boolean isSegmentFile(Path path) {
+        return path.getFileName().toString().endsWith(SUFFIX);
+    }
+
+    private static String fileName(long baseOffset) {
+        return String.format("%020d%s", baseOffset, SUFFIX);
+    }
+
+    private static long countValidRecords(FileChannel channel, long records) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(OrderLogRecord.SIZE);
+        for(long i = 0; i < records; i++) {
+            buffer.clear();
+            channel.read(buffer, i * OrderLogRecord.SIZE);
+            if(OrderLogRecord.readFrom(buffer.flip()) == null) {
+                return i;
+            }
+        }
+        return records;
+    }
+
+    long baseOffset() {
+        return baseOffset;
+    }
+
+    long records() {
+        return records;
+    }
+
+    // 다음 세그먼트의 첫 오프셋
+    long endOffset() {
+        return baseOffset + records;
+    }
+
+    void append(OrderLogRecord record) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(OrderLogRecord.SIZE);
+        record.writeTo(buffer);
+        buffer.flip();
+
+        long position = records * OrderLogRecord.SIZE;
+        while(buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+        records++;
+    }
+
+    // fromOffset 부터 toOffset 전까지 최대 maxRecords 건 읽기
+    List<OrderLogRecord> read(long fromOffset, long toOffset, int maxRecords) throws IOException {
+        int count = (int) Math.min(maxRecords, Math.min(toOffset, endOffset()) - fromOffset);
+        if(count <= 0) {
+            return List.of();
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(count * OrderLogRecord.SIZE);
+        long position = (fromOffset - baseOffset) * OrderLogRecord.SIZE;
+        while(buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if(read < 0) {
+                break;
+            }
+        }
+        buffer.flip();
+
+        List<OrderLogRecord> result = new ArrayList<>(count);
+        while(buffer.remaining() >= OrderLogRecord.SIZE) {
+            OrderLogRecord record = OrderLogRecord.readFrom(buffer);
+            if(record == null) {
+                throw new IOException("주문 로그 레코드가 손상되었습니다. (" + path + ", offset : " + (fromOffset + result.size()) + ")");
+            }
+            result.add(record);
+        }
+        return result;
+    }
+
+    // 운영체제 캐시에 있는 기록을 디스크에 반영
+    void force() throws IOException {
+        channel.force(false);
+    }
+
+    void delete() throws IOException {
+        close();
+        Files.deleteIfExists(path);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -9,11 +9,7 @@ import org.springframework.data.jpa.repository.Query;
  * 편의성을 위해 Stock 엔티티를 사용하지만 실제로는 별도의 JDBC 를 사용해주어야 함
  */
 public interface LockRepository extends JpaRepository<Stock, Long> {
-    // Lock 획득 메소드
-    @Query(value = "select get_lock(:key, 3000)", nativeQuery = true)
-    void getLock(String key);
-
-    // Lock 해제 메소드
-    @Query(value = "select release_lock(:key)", nativeQuery = true)
-    void releaseLock(String key);
+    // Lock 획득 메소드 (획득 시 1, 대기 시간 초과 시 0 반환)
+    @Query(value = "select get_lock(:key, :timeoutSeconds)", nativeQuery = true)
+    Long getLock(String key, long timeoutSeconds);
 }
@@ -0,0 +1,23 @@
+package com.example.stock.repository;
+
+import com.example.stock.domain.OrderLogOffset;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Optional;
+
+/**
+ * 주문 로그 파티션별 소비 위치 저장소
+ */
+public interface OrderLogOffsetRepository extends JpaRepository<OrderLogOffset, Long> {
+    // 로그의 파티션별 다음 처리 오프셋
+    @Query("select o.nextOffset from OrderLogOffset o where o.logId = :logId and o.partitionId = :partitionId")
+    Optional<Long> findNextOffset(String logId, Integer partitionId);
+
+    // 소비 위치 저장 (조회 없이 한 번에 insert 혹은 update)
+    @Modifying
+    @Query(value = "insert into order_log_offset (log_id, partition_id, next_offset) values (:logId, :partitionId, :nextOffset) as new " +
+            "on duplicate key update next_offset = new.next_offset", nativeQuery = true)
+    void upsert(String logId, Integer partitionId, Long nextOffset);
+}
@@ -0,0 +1,16 @@
+package com.example.stock.repository;
+
+import com.example.stock.domain.OrderLogRejection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Optional;
+
+/**
+ * 주문 로그에서 거절된 레코드 저장소
+ */
+public interface OrderLogRejectionRepository extends JpaRepository<OrderLogRejection, Long> {
+    // 레코드의 거절 사유 (반영되었거나 아직 처리 전이면 비어 있음)
+    @Query("select r.reason from OrderLogRejection r where r.logId = :logId and r.partitionId = :partitionId and r.recordOffset = :recordOffset")
+    Optional<String> findReason(String logId, Integer partitionId, Long recordOffset);
+}
@@ -0,0 +1,31 @@
+package com.example.stock.repository;
+
+import com.example.stock.domain.ProcessedRequest;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+/**
+ * 처리 완료된 재고 감소 요청 (멱등성 키) 저장소
+ */
+public interface ProcessedRequestRepository extends JpaRepository<ProcessedRequest, String> {
+    // 키 저장 (이미 있으면 PK 중복으로 실패하므로 save 대신 insert 를 직접 사용)
+    @Modifying
+    @Query(value = "insert into processed_request (request_key, stock_id, quantity, created_at) values (:requestKey, :stockId, :quantity, :createdAt)",
+            nativeQuery = true)
+    void insert(String requestKey, Long stockId, Long quantity, Instant createdAt);
+
+    // 저장 시각은 정리 기준 (deleteCreatedBefore) 과 같은 시계를 쓰도록 DB 의 now() (세션 타임존 기준) 대신 자바의 현재 시각으로 바인딩
+    default void insert(String requestKey, Long stockId, Long quantity) {
+        insert(requestKey, stockId, quantity, Instant.now());
+    }
+
+    // 만료된 키 삭제
+    @Transactional
+    @Modifying
+    @Query("delete from ProcessedRequest p where p.createdAt < :expiredBefore")
+    int deleteCreatedBefore(Instant expiredBefore);
+}
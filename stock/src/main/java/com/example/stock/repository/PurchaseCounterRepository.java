@@ -0,0 +1,20 @@
+package com.example.stock.repository;
+
+import com.example.stock.domain.PurchaseCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+/**
+ * 사용자별 구매 수량 카운터 저장소
+ */
+public interface PurchaseCounterRepository extends JpaRepository<PurchaseCounter, Long> {
+    // 만료된 카운터 삭제
+    @Transactional
+    @Modifying
+    @Query("delete from PurchaseCounter c where c.expiresAt < :now")
+    int deleteExpiredBefore(Instant now);
+}
@@ -0,0 +1,52 @@
+package com.example.stock.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 논블로킹 Redis Lock 레포지토리 (stock.reactive.enabled=true 일 때만 동작)
+ * RedisLockRepository 와 같은 Lua 스크립트 / 키를 사용하므로 블로킹 경로와 같은 Lock, 같은 펜싱 토큰 카운터를 공유
+ */
+@Component
+@ConditionalOnProperty(name = "stock.reactive.enabled", havingValue = "true")
+public class ReactiveRedisLockRepository {
+
+    // 논블로킹 Redis 명령어 사용을 위한 템플릿
+    private final ReactiveStringRedisTemplate redisTemplate;
+
+    // 키 생성 규칙 공유
+    private final RedisLockRepository redisLockRepository;
+
+    // Lock 만료 시간
+    private final Duration ttl;
+
+    public ReactiveRedisLockRepository(ReactiveStringRedisTemplate redisTemplate, RedisLockRepository redisLockRepository,
+                                       @Value("${stock.lock.lettuce.ttl:3000ms}") Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.redisLockRepository = redisLockRepository;
+        this.ttl = ttl;
+    }
+
+    // Lock 메소드 (획득 성공 시 펜싱 토큰, 실패 시 빈 Mono 반환)
+    public Mono<Long> lockWithFencingToken(Long key) {
+        return redisTemplate.execute(RedisLockRepository.LOCK_WITH_FENCING_TOKEN_SCRIPT,
+                        List.of(redisLockRepository.generateKey(key), redisLockRepository.generateFencingKey(key)),
+                        List.of(String.valueOf(ttl.toMillis())))
+                .next()
+                .filter(token -> token != 0);
+    }
+
+    // unLock 메소드 (펜싱 토큰이 일치하는 경우에만 해제)
+    public Mono<Void> unLock(Long key, Long token) {
+        return redisTemplate.execute(RedisLockRepository.UNLOCK_SCRIPT,
+                        List.of(redisLockRepository.generateKey(key)),
+                        List.of(token.toString()))
+                .then();
+    }
+}
@@ -1,9 +1,13 @@
 package com.example.stock.repository;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.util.List;
 
 /**
  * Redis 사용을 위한 레포지토리 생성
@@ -11,16 +15,51 @@ import java.time.Duration;
 @Component
 public class RedisLockRepository {
 
+    /*
+     * Lock 획득과 펜싱 토큰 발급을 한 번에 처리
+     * KEYS[1] = Lock 키, KEYS[2] = 펜싱 토큰 카운터 키
+     * ARGV[1] = Lock 만료 (ms)
+     * Lock 획득 시 새 토큰을 Lock 값으로 저장하고 반환, 이미 점유 중이면 0 반환
+     */
+    static final RedisScript<Long> LOCK_WITH_FENCING_TOKEN_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end
+            local token = redis.call('INCR', KEYS[2])
+            redis.call('SET', KEYS[1], token, 'PX', ARGV[1])
+            return token
+            """, Long.class);
+
+    /*
+     * 자신이 발급받은 토큰으로 잡은 Lock 만 해제 (만료 후 다른 클라이언트가 잡은 Lock 을 지우지 않도록)
+     * KEYS[1] = Lock 키, ARGV[1] = 펜싱 토큰
+     */
+    static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end
+            return 0
+            """, Long.class);
+
     // Redis 명령어 사용을 위한 템플릿 변수 추가
     private RedisTemplate<String, String> redisTemplate;
 
-    public RedisLockRepository(RedisTemplate<String, String> redisTemplate) {
+    // Lock 만료 시간 (펜싱 토큰으로 늦은 쓰기를 막으므로 짧게 잡을 수 있음)
+    private final Duration ttl;
+
+    public RedisLockRepository(RedisTemplate<String, String> redisTemplate,
+                               @Value("${stock.lock.lettuce.ttl:3000ms}") Duration ttl) {
         this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
     }
 
     // Lock 메소드
     public Boolean lock(Long key) {
-        return redisTemplate.opsForValue().setIfAbsent(generateKey(key), "lock", Duration.ofMillis(3_000));
+        return redisTemplate.opsForValue().setIfAbsent(generateKey(key), "lock", ttl);
+    }
+
+    // Lock 메소드 (획득 성공 시 펜싱 토큰, 실패 시 null 반환)
+    public Long lockWithFencingToken(Long key) {
+        Long token = redisTemplate.execute(LOCK_WITH_FENCING_TOKEN_SCRIPT,
+                List.of(generateKey(key), generateFencingKey(key)),
+                String.valueOf(ttl.toMillis()));
+        return token == null || token == 0 ? null : token;
     }
 
     // unLock 메소드
@@ -28,8 +67,17 @@ public class RedisLockRepository {
         redisTemplate.delete(generateKey(key));
     }
 
+    // unLock 메소드 (펜싱 토큰이 일치하는 경우에만 해제)
+    public void unLock(Long key, Long token) {
+        redisTemplate.execute(UNLOCK_SCRIPT, List.of(generateKey(key)), token.toString());
+    }
+
     public String generateKey(Long key) {
         return key.toString();
     }
 
+    public String generateFencingKey(Long key) {
+        return "fence:" + key;
+    }
+
 }
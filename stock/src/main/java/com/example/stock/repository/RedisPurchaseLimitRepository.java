@@ -0,0 +1,196 @@
+package com.example.stock.repository;
+
+import com.example.stock.domain.PurchaseLimit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis 를 활용한 사용자별 구매 한도 확인 및 재고 차감
+ * 한도 확인, 사용자 카운터 증가, 재고 차감을 Lua 스크립트 하나로 처리하여 한 번의 왕복으로 원자적으로 수행
+ */
+@Component
+public class RedisPurchaseLimitRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisPurchaseLimitRepository.class);
+
+    public static final long NOT_LOADED = -3;       // Redis 에 재고가 아직 올라가지 않음
+    public static final long LIMIT_EXCEEDED = -2;   // 구매 한도 초과
+    public static final long SOLD_OUT = -1;         // 재고 부족
+
+    /*
+     * 캠페인 단위 한도
+     * KEYS[1] = 재고 키, KEYS[2] = 사용자 카운터 키
+     * ARGV[1] = 요청 수량, ARGV[2] = 최대 수량, ARGV[3] = 카운터 만료 (ms)
+     * 만료 시간은 카운터를 처음 만들 때만 설정 (구매할 때마다 다시 설정하면 캠페인 기간이 계속 늘어남)
+     */
+    private static final RedisScript<Long> CAMPAIGN_SCRIPT = new DefaultRedisScript<>("""
+            local stock = redis.call('GET', KEYS[1])
+            if not stock then return -3 end
+            local quantity = tonumber(ARGV[1])
+            local counter = redis.call('GET', KEYS[2])
+            local used = tonumber(counter or '0')
+            if used + quantity > tonumber(ARGV[2]) then return -2 end
+            if tonumber(stock) < quantity then return -1 end
+            redis.call('INCRBY', KEYS[2], quantity)
+            if not counter then redis.call('PEXPIRE', KEYS[2], ARGV[3]) end
+            return redis.call('DECRBY', KEYS[1], quantity)
+            """, Long.class);
+
+    /*
+     * 슬라이딩 윈도우 한도 (구매 이력을 시각을 score 로 하는 Sorted Set 에 보관)
+     * KEYS[1] = 재고 키, KEYS[2] = 사용자 구매 이력 키
+     * ARGV[1] = 요청 수량, ARGV[2] = 최대 수량, ARGV[3] = 윈도우 (ms), ARGV[4] = 현재 시각 (ms), ARGV[5] = 이력 멤버 ("요청아이디:수량")
+     */
+    private static final RedisScript<Long> SLIDING_WINDOW_SCRIPT = new DefaultRedisScript<>("""
+            local stock = redis.call('GET', KEYS[1])
+            if not stock then return -3 end
+            local quantity = tonumber(ARGV[1])
+            local now = tonumber(ARGV[4])
+            redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', now - tonumber(ARGV[3]))
+            local used = 0
+            for _, member in ipairs(redis.call('ZRANGE', KEYS[2], 0, -1)) do
+                used = used + tonumber(string.match(member, ':(%d+)$'))
+            end
+            if used + quantity > tonumber(ARGV[2]) then return -2 end
+            if tonumber(stock) < quantity then return -1 end
+            redis.call('ZADD', KEYS[2], now, ARGV[5])
+            redis.call('PEXPIRE', KEYS[2], ARGV[3])
+            return redis.call('DECRBY', KEYS[1], quantity)
+            """, Long.class);
+
+    /*
+     * DB 반영 실패 시 되돌리기
+     * KEYS[1] = 재고 키, KEYS[2] = 사용자 카운터 (혹은 구매 이력) 키
+     * ARGV[1] = 수량, ARGV[2] = 이력 멤버 (캠페인 단위면 빈 문자열)
+     */
+    private static final RedisScript<Long> ROLLBACK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then redis.call('INCRBY', KEYS[1], ARGV[1]) end
+            if ARGV[2] == '' then
+                if redis.call('EXISTS', KEYS[2]) == 1 then redis.call('DECRBY', KEYS[2], ARGV[1]) end
+            else
+                redis.call('ZREM', KEYS[2], ARGV[2])
+            end
+            return 1
+            """, Long.class);
+
+    /*
+     * 이미 Redis 에 올라간 재고에만 입고 수량 더하기 (올라가지 않은 재고는 다음 구매 시 DB 에서 읽어 옴)
+     * KEYS[1] = 재고 키, ARGV[1] = 입고 수량
+     * 파이프라인 안에서는 EVALSHA 실패 (NOSCRIPT) 를 처리할 수 없으므로 스크립트 본문을 EVAL 로 전송
+     */
+    private static final String INCREASE_IF_LOADED_SCRIPT = """
+            if redis.call('EXISTS', KEYS[1]) == 1 then return redis.call('INCRBY', KEYS[1], ARGV[1]) end
+            return 0
+            """;
+
+    // Redis 명령어 사용을 위한 템플릿 변수 추가
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public RedisPurchaseLimitRepository(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 한도 확인 후 카운터 증가 및 재고 차감
+     * @return 차감 후 남은 재고, 혹은 NOT_LOADED / LIMIT_EXCEEDED / SOLD_OUT
+     */
+    public long decrease(Long userId, Long stockId, long quantity, PurchaseLimit limit, String member, long nowMillis) {
+        List<String> keys = List.of(stockKey(stockId), counterKey(userId, stockId, limit));
+
+        Long result = limit.scope() == PurchaseLimit.Scope.CAMPAIGN
+                ? redisTemplate.execute(CAMPAIGN_SCRIPT, keys,
+                        String.valueOf(quantity), String.valueOf(limit.maxQuantity()), String.valueOf(limit.period().toMillis()))
+                : redisTemplate.execute(SLIDING_WINDOW_SCRIPT, keys,
+                        String.valueOf(quantity), String.valueOf(limit.maxQuantity()), String.valueOf(limit.period().toMillis()),
+                        String.valueOf(nowMillis), member + ":" + quantity);
+
+        return result;
+    }
+
+    // decrease 로 반영한 내용 되돌리기
+    public void rollback(Long userId, Long stockId, long quantity, PurchaseLimit limit, String member) {
+        String historyMember = limit.scope() == PurchaseLimit.Scope.CAMPAIGN ? "" : member + ":" + quantity;
+        redisTemplate.execute(ROLLBACK_SCRIPT, List.of(stockKey(stockId), counterKey(userId, stockId, limit)),
+                String.valueOf(quantity), historyMember);
+    }
+
+    // DB 재고를 Redis 에 올림 (이미 있으면 덮어쓰지 않음)
+    public void loadStock(Long stockId, long quantity, Duration ttl) {
+        redisTemplate.opsForValue().setIfAbsent(stockKey(stockId), String.valueOf(quantity), ttl);
+    }
+
+    // 여러 재고를 파이프라인 한 번으로 덮어쓰기 (일괄 적재 후 반영)
+    public void publishStocks(Map<Long, Long> quantities, Duration ttl) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            quantities.forEach((stockId, quantity) -> connection.stringCommands().set(bytes(stockKey(stockId)),
+                    bytes(String.valueOf(quantity)), Expiration.from(ttl), RedisStringCommands.SetOption.upsert()));
+            return null;
+        });
+    }
+
+    // 여러 재고의 입고 수량을 파이프라인 한 번으로 반영 (진행 중인 차감을 덮어쓰지 않도록 이미 올라간 재고에 증가분만 더함)
+    public void increaseLoadedStocks(Map<Long, Long> quantities) {
+        byte[] script = bytes(INCREASE_IF_LOADED_SCRIPT);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            quantities.forEach((stockId, quantity) -> connection.scriptingCommands().eval(script, ReturnType.INTEGER, 1,
+                    bytes(stockKey(stockId)), bytes(String.valueOf(quantity))));
+            return null;
+        });
+    }
+
+    /**
+     * Redis 를 거치지 않고 DB 재고가 바뀐 경우 (입고, 다른 전략의 감소 등) Redis 에 올라간 재고 삭제
+     * 다음 구매 시 DB 에서 다시 읽어 오므로 입고 후 품절 응답 / 이미 없는 재고로 구매 수락 / 오래된 값으로 되돌리기가 남지 않음
+     * 트랜잭션 안이면 커밋된 이후에 삭제 (커밋 전에 삭제하면 다른 요청이 커밋 전 값을 다시 올릴 수 있음)
+     * 커밋 직전에 DB 에서 읽은 값을 다른 요청이 삭제 이후에 올리는 경우는 남으므로, 이때는 최대 재고 보관 시간 (TTL) 동안 어긋날 수 있음
+     * 삭제에 실패해도 이미 커밋된 변경을 실패로 보이지 않도록 예외를 전달하지 않음 (TTL 이 지나면 다시 읽어 옴)
+     */
+    public void evictStockAfterCommit(Long stockId) {
+        if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictStock(stockId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictStock(stockId);
+            }
+        });
+    }
+
+    private void evictStock(Long stockId) {
+        try {
+            redisTemplate.delete(stockKey(stockId));
+        } catch(RuntimeException e) {
+            log.warn("Redis 재고 삭제 실패 (상품재고 아이디 : {})", stockId, e);
+        }
+    }
+
+    public String stockKey(Long stockId) {
+        return "stock:quantity:" + stockId;
+    }
+
+    private String counterKey(Long userId, Long stockId, PurchaseLimit limit) {
+        return "purchase:" + limit.campaignId() + ":" + stockId + ":" + userId;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
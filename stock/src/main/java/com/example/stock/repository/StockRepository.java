@@ -1,22 +1,73 @@
 package com.example.stock.repository;
 
 import com.example.stock.domain.Stock;
+import com.example.stock.domain.StockAvailability;
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * 상품재고 엔티티 CRUD 를 위한 인터페이스
  */
-public interface StockRepository extends JpaRepository<Stock, Long> {
+public interface StockRepository extends JpaRepository<Stock, Long>, StockRepositoryCustom {
     // 비관적 락 (Pessimistic Lock) 을 활용한 데이터 조작
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("select s from Stock s where s.id = :id")
     Stock findByIdWithPessimisticLock(Long id);
 
+    // 비관적 락 (Pessimistic Lock) 대기 없이 조회 (select ... for update nowait, 다른 트랜잭션이 점유 중이면 즉시 실패)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "0"))
+    @Query("select s from Stock s where s.id = :id")
+    Stock findByIdWithPessimisticLockNoWait(Long id);
+
     // 낙관적 락 (Optimistic Lock) 을 활용한 데이터 조작
     @Lock(LockModeType.OPTIMISTIC)
     @Query("select s from Stock s where s.id = :id")
     Stock findByIdWithOptimisticLock(Long id);
+
+    // 상품 아이디로 조회 (uk_stock_product_id 인덱스 사용)
+    Optional<Stock> findByProductId(Long productId);
+
+    // 상품 아이디로 낙관적 락 (Optimistic Lock) 조회
+    @Lock(LockModeType.OPTIMISTIC)
+    @Query("select s from Stock s where s.productId = :productId")
+    Optional<Stock> findByProductIdWithOptimisticLock(Long productId);
+
+    // 상품 아이디에 해당하는 상품재고 아이디만 조회 (인덱스만으로 처리)
+    @Query("select s.id from Stock s where s.productId = :productId")
+    Optional<Long> findIdByProductId(Long productId);
+
+    // 여러 상품재고의 가용 수량을 엔티티 없이 한 번에 조회
+    @Query("select new com.example.stock.domain.StockAvailability(s.id, s.productId, s.quantity) from Stock s where s.id in :ids")
+    List<StockAvailability> findAvailabilitiesByIdIn(Collection<Long> ids);
+
+    // 여러 상품의 가용 수량을 상품 아이디로 한 번에 조회
+    @Query("select new com.example.stock.domain.StockAvailability(s.id, s.productId, s.quantity) from Stock s where s.productId in :productIds")
+    List<StockAvailability> findAvailabilitiesByProductIdIn(Collection<Long> productIds);
+
+    // 수량이 충분한 경우에만 차감하는 조건부 업데이트 (반영된 행 수 반환)
+    @Modifying
+    @Query("update Stock s set s.quantity = s.quantity - :quantity, s.version = s.version + 1 where s.id = :id and s.quantity >= :quantity")
+    int decreaseIfAvailable(Long id, Long quantity);
+
+    // 펜싱 토큰이 마지막으로 반영된 토큰보다 큰 경우에만 재고 감소 (재고 부족이거나 만료된 토큰이면 0 반환)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Stock s set s.quantity = s.quantity - :quantity, s.fencingToken = :token, s.version = s.version + 1 " +
+            "where s.id = :id and s.quantity >= :quantity and (s.fencingToken is null or s.fencingToken < :token)")
+    int decreaseWithFencingToken(Long id, Long quantity, Long token);
+
+    // 펜싱 토큰이 마지막으로 반영된 토큰보다 큰 경우에만 재고 증가 (없는 재고이거나 만료된 토큰이면 0 반환)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Stock s set s.quantity = s.quantity + :quantity, s.fencingToken = :token, s.version = s.version + 1 " +
+            "where s.id = :id and (s.fencingToken is null or s.fencingToken < :token)")
+    int increaseWithFencingToken(Long id, Long quantity, Long token);
 }
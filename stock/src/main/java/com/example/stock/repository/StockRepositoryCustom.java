@@ -0,0 +1,13 @@
+package com.example.stock.repository;
+
+import com.example.stock.domain.Stock;
+
+import java.time.Duration;
+
+/**
+ * Spring Data 쿼리 메소드로 표현할 수 없는 상품재고 조회를 위한 인터페이스
+ */
+public interface StockRepositoryCustom {
+    // 비관적 락 (Pessimistic Lock) 대기 시간을 쿼리 단위로 지정하여 조회
+    Stock findByIdWithPessimisticLock(Long id, Duration lockTimeout);
+}
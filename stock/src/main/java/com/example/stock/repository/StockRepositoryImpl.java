@@ -0,0 +1,43 @@
+package com.example.stock.repository;
+
+import com.example.stock.domain.Stock;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 상품재고 커스텀 조회 구현
+ * MySQL 은 select ... for update 에 대기 시간을 지정하는 문법이 없어 (Hibernate 도 0 / -2 외의 lock.timeout 값은 무시)
+ * 옵티마이저 힌트 SET_VAR 로 해당 쿼리에서만 innodb_lock_wait_timeout (초 단위, 최소 1초) 을 변경
+ * 초 단위로만 지정 가능하므로 요청한 시간보다 먼저 포기하지 않도록 1초 단위로 올림 (예 : 1500ms > 2초, 0ms > 1초)
+ */
+public class StockRepositoryImpl implements StockRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * 대기 시간을 지정한 비관적 락 조회
+     * JPQL 조회 (StockRepository.findByIdWithPessimisticLock(Long)) 와 마찬가지로 재고가 없으면 null 반환
+     */
+    @Override
+    public Stock findByIdWithPessimisticLock(Long id, Duration lockTimeout) {
+        if(lockTimeout.isNegative()) {
+            throw new IllegalArgumentException("Lock 대기 시간은 0 이상이어야 합니다. (" + lockTimeout + ")");
+        }
+
+        long seconds = Math.max(1, ceilSeconds(lockTimeout));
+        List<?> stocks = entityManager.createNativeQuery(
+                        "select /*+ SET_VAR(innodb_lock_wait_timeout=" + seconds + ") */ * from stock where id = ? for update", Stock.class)
+                .setParameter(1, id)
+                .getResultList();
+        return stocks.isEmpty() ? null : (Stock) stocks.get(0);
+    }
+
+    private static long ceilSeconds(Duration duration) {
+        long seconds = duration.toSeconds();
+        return duration.toNanosPart() == 0 ? seconds : seconds + 1;
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.stock.repository;
+
+import com.example.stock.domain.WarehouseAvailability;
+import com.example.stock.domain.WarehouseStock;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 창고별 상품재고 엔티티 CRUD 를 위한 인터페이스
+ */
+public interface WarehouseStockRepository extends JpaRepository<WarehouseStock, Long> {
+    // 상품을 보관 중인 후보 창고별 가용 재고를 한 번에 조회 (엔티티를 영속성 컨텍스트에 올리지 않음)
+    @Query("select new com.example.stock.domain.WarehouseAvailability(w.id, w.warehouseId, w.quantity, w.latitude, w.longitude) " +
+            "from WarehouseStock w where w.productId = :productId")
+    List<WarehouseAvailability> findAvailabilitiesByProductId(Long productId);
+
+    // 수량이 충분한 경우에만 차감하는 조건부 업데이트 (반영된 행 수 반환)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update WarehouseStock w set w.quantity = w.quantity - :quantity where w.id = :id and w.quantity >= :quantity")
+    int decreaseIfAvailable(Long id, Long quantity);
+
+    // 수량이 충분한 창고 재고 중 다른 트랜잭션이 점유하지 않은 행 하나를 Lock 획득하여 조회 (select ... for update skip locked)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    Optional<WarehouseStock> findFirstByProductIdAndQuantityGreaterThanEqualOrderByIdAsc(Long productId, Long quantity);
+
+    // 수량이 충분한 창고 재고가 하나라도 있는지 확인 (Lock 없이 조회)
+    boolean existsByProductIdAndQuantityGreaterThanEqual(Long productId, Long quantity);
+}
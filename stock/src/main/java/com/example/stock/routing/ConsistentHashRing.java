@@ -0,0 +1,82 @@
+package com.example.stock.routing;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 상품 아이디를 인스턴스에 매핑하는 일관된 해싱 (consistent hashing) 링
+ * 인스턴스마다 여러 개의 가상 노드를 두어 인스턴스가 추가 / 제거될 때 일부 상품만 소유자가 바뀌도록 함
+ * 같은 멤버 목록이면 어느 인스턴스에서 만들어도 같은 결과가 나옴
+ */
+public final class ConsistentHashRing {
+
+    // 인스턴스 하나당 가상 노드 수
+    private static final int VIRTUAL_NODES = 160;
+
+    private final NavigableMap<Long, String> ring = new TreeMap<>();
+
+    private final Set<String> members;
+
+    // 멤버 구성을 나타내는 값 (인스턴스 간 같은 구성인지 비교할 때 사용)
+    private final long viewId;
+
+    public ConsistentHashRing(Collection<String> members) {
+        this.members = new TreeSet<>(members);
+        for(String member : this.members) {
+            for(int i = 0; i < VIRTUAL_NODES; i++) {
+                ring.put(hash(member + "#" + i), member);
+            }
+        }
+        this.viewId = hash(String.join(",", this.members));
+    }
+
+    public static ConsistentHashRing empty() {
+        return new ConsistentHashRing(Set.of());
+    }
+
+    /**
+     * 상품의 소유 인스턴스 조회
+     * @param id    상품 아이디
+     * @return 멤버가 없으면 null
+     */
+    public String ownerOf(Long id) {
+        if(ring.isEmpty()) {
+            return null;
+        }
+
+        Map.Entry<Long, String> entry = ring.ceilingEntry(mix(id));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    public Set<String> members() {
+        return members;
+    }
+
+    public long viewId() {
+        return viewId;
+    }
+
+    // FNV-1a 64 비트 해시 후 비트 섞기
+    private static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for(byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        return mix(h);
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.stock.routing;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Redis 기반 인스턴스 멤버십 레지스트리
+ * 각 인스턴스는 주기적으로 Sorted Set 에 (인스턴스 아이디, 마지막 heartbeat 시각) 을 기록하고
+ * 일정 시간 heartbeat 가 없는 인스턴스는 멤버에서 제외함
+ */
+@Component
+@ConditionalOnProperty(name = "stock.routing.enabled", havingValue = "true")
+public class InstanceRegistry {
+
+    private static final String MEMBERS_KEY = "routing:members";
+    private static final String URLS_KEY = "routing:urls";
+
+    // Redis 명령어 사용을 위한 템플릿 변수
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 상품 소유권 관리
+    private final ProductOwnership productOwnership;
+
+    // 포트 확인을 위한 환경 변수
+    private final Environment environment;
+
+    // 다른 인스턴스가 요청을 전달할 주소 (미지정 시 http://localhost:{포트})
+    private final String advertisedUrl;
+
+    // heartbeat 가 없으면 멤버에서 제외할 시간
+    private final Duration memberTtl;
+
+    private volatile Set<String> knownMembers = Set.of();
+
+    public InstanceRegistry(RedisTemplate<String, String> redisTemplate,
+                            ProductOwnership productOwnership,
+                            Environment environment,
+                            @Value("${stock.routing.advertised-url:}") String advertisedUrl,
+                            @Value("${stock.routing.member-ttl:PT5S}") Duration memberTtl) {
+        this.redisTemplate = redisTemplate;
+        this.productOwnership = productOwnership;
+        this.environment = environment;
+        this.advertisedUrl = advertisedUrl;
+        this.memberTtl = memberTtl;
+    }
+
+    // heartbeat 기록 및 멤버 구성 변경 확인
+    @Scheduled(fixedDelayString = "${stock.routing.heartbeat-interval:PT1S}")
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        String instanceId = productOwnership.instanceId();
+
+        redisTemplate.opsForHash().put(URLS_KEY, instanceId, url());
+        redisTemplate.opsForZSet().add(MEMBERS_KEY, instanceId, now);
+        redisTemplate.opsForZSet().removeRangeByScore(MEMBERS_KEY, Double.NEGATIVE_INFINITY, now - memberTtl.toMillis());
+
+        Set<String> alive = redisTemplate.opsForZSet().rangeByScore(MEMBERS_KEY, now - memberTtl.toMillis(), Double.POSITIVE_INFINITY);
+        if(alive != null && !alive.equals(knownMembers)) {
+            knownMembers = Set.copyOf(alive);
+            productOwnership.onMembershipChange(knownMembers);
+        }
+    }
+
+    // 인스턴스의 요청 전달 주소 조회
+    public String urlOf(String instanceId) {
+        Object url = redisTemplate.opsForHash().get(URLS_KEY, instanceId);
+        return url != null ? url.toString() : null;
+    }
+
+    // 종료 시 멤버에서 바로 제외하여 다른 인스턴스가 빠르게 소유권을 넘겨받도록 함
+    @PreDestroy
+    public void leave() {
+        String instanceId = productOwnership.instanceId();
+        redisTemplate.opsForZSet().remove(MEMBERS_KEY, instanceId);
+        redisTemplate.opsForHash().delete(URLS_KEY, instanceId);
+        productOwnership.clearDrainedMarker();
+    }
+
+    private String url() {
+        if(!advertisedUrl.isBlank()) {
+            return advertisedUrl;
+        }
+        return "http://localhost:" + environment.getProperty("local.server.port", "8080");
+    }
+}
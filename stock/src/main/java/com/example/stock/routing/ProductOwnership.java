@@ -0,0 +1,179 @@
+package com.example.stock.routing;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품 소유권 관리
+ * 자신이 소유한 상품은 분산 락 대신 JVM 내부 Lock 으로 직렬화하여 처리
+ *
+ * 소유자 변경 (handoff) 절차
+ *  1) 멤버 구성이 바뀌면 진행 중인 로컬 처리가 모두 끝날 때까지 기다린 후 새 링으로 교체
+ *  2) 교체가 끝나면 "이 구성에서 이전 처리를 모두 끝냈음" 표시 (drained 마커) 를 Redis 에 기록
+ *  3) 새 소유자는 상품의 이전 소유자가 같은 구성에 대한 drained 마커를 남길 때까지 기다린 후 처리 시작
+ *     이전 소유자가 이미 멤버에서 빠졌거나 제한 시간 안에 응답이 없으면 기다리지 않음 (DB 조건부 업데이트가 최종 안전장치)
+ */
+@Component
+@ConditionalOnProperty(name = "stock.routing.enabled", havingValue = "true")
+public class ProductOwnership {
+
+    private static final String DRAINED_KEY_PREFIX = "routing:drained:";
+
+    // 로컬 Lock 스트라이프 개수
+    private static final int LOCK_STRIPES = 1024;
+
+    // 이 인스턴스의 아이디
+    private final String instanceId;
+
+    // 이전 소유자의 drained 마커를 기다리는 최대 시간
+    private final Duration handoffTimeout;
+
+    // Redis 명령어 사용을 위한 템플릿 변수
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 로컬 처리 (read) 와 링 교체 (write) 사이의 순서를 보장하기 위한 Lock
+    private final ReentrantReadWriteLock inFlight = new ReentrantReadWriteLock();
+
+    // 상품별 직렬화를 위한 JVM 내부 Lock
+    private final ReentrantLock[] stripes = new ReentrantLock[LOCK_STRIPES];
+
+    /*
+     * 구성 (viewId) 별로 drained 마커를 확인한 이전 소유자 목록
+     * 이전 구성에서 기다리던 handoff 가 링 교체 이후에 확인 결과를 읽거나 남겨도 새 구성의 목록에 섞이지 않도록 구성별로 보관
+     */
+    private final Map<Long, Set<String>> drainedPeers = new ConcurrentHashMap<>();
+
+    private volatile View view = new View(ConsistentHashRing.empty(), ConsistentHashRing.empty());
+
+    public ProductOwnership(@Value("${stock.routing.instance-id:${random.uuid}}") String instanceId,
+                            @Value("${stock.routing.handoff-timeout:PT2S}") Duration handoffTimeout,
+                            RedisTemplate<String, String> redisTemplate) {
+        this.instanceId = instanceId;
+        this.handoffTimeout = handoffTimeout;
+        this.redisTemplate = redisTemplate;
+        for(int i = 0; i < LOCK_STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    public String instanceId() {
+        return instanceId;
+    }
+
+    // 상품의 현재 소유 인스턴스 (멤버 정보가 아직 없으면 null)
+    public String ownerOf(Long id) {
+        return view.current().ownerOf(id);
+    }
+
+    public Set<String> members() {
+        return view.current().members();
+    }
+
+    /**
+     * 멤버 구성 변경 반영
+     * @param members   살아있는 인스턴스 목록
+     */
+    void onMembershipChange(Collection<String> members) {
+        ConsistentHashRing next = new ConsistentHashRing(members);
+
+        // 진행 중인 로컬 처리가 끝날 때까지 대기
+        inFlight.writeLock().lock();
+        try {
+            view = new View(next, view.current());
+            drainedPeers.keySet().removeIf(viewId -> viewId != next.viewId());
+            redisTemplate.opsForValue().set(DRAINED_KEY_PREFIX + instanceId, String.valueOf(next.viewId()), Duration.ofHours(1));
+        } finally {
+            inFlight.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 소유자로서 로컬 처리
+     * 이전 소유자의 처리가 끝난 것을 확인한 뒤 상품별 JVM 내부 Lock 을 잡고 수행
+     * drained 마커 확인 (Redis 폴링) 은 read Lock 을 잡기 전에 수행하여 링 교체 (write Lock) 를 막지 않도록 함
+     * 확인하는 사이 링이 교체되었다면 새 구성 기준으로 다시 확인
+     * @param id    상품 아이디
+     * @param task  재고 변경 로직
+     */
+    public void runAsOwner(Long id, Runnable task) {
+        while(true) {
+            View observed = view;
+            awaitHandoff(observed, id);
+
+            inFlight.readLock().lock();
+            try {
+                if(view != observed) {
+                    continue;
+                }
+
+                ReentrantLock lock = stripes[Math.floorMod(id.hashCode(), LOCK_STRIPES)];
+                lock.lock();
+                try {
+                    task.run();
+                } finally {
+                    lock.unlock();
+                }
+                return;
+            } finally {
+                inFlight.readLock().unlock();
+            }
+        }
+    }
+
+    private void awaitHandoff(View current, Long id) {
+        long viewId = current.current().viewId();
+        String previousOwner = current.previous().ownerOf(id);
+        if(previousOwner == null
+                || previousOwner.equals(instanceId)
+                || !current.current().members().contains(previousOwner)
+                || drainedPeers.getOrDefault(viewId, Set.of()).contains(previousOwner)) {
+            return;
+        }
+
+        String expected = String.valueOf(viewId);
+        long deadline = System.nanoTime() + handoffTimeout.toNanos();
+
+        while(System.nanoTime() - deadline < 0) {
+            if(expected.equals(redisTemplate.opsForValue().get(DRAINED_KEY_PREFIX + previousOwner))) {
+                markDrained(viewId, previousOwner);
+                return;
+            }
+
+            try {
+                Thread.sleep(10);
+            } catch(InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    // 확인한 구성이 아직 현재 구성인 경우에만 기록 (이미 교체되었다면 버려진 구성의 목록을 다시 만들지 않음)
+    private void markDrained(long viewId, String peer) {
+        if(view.current().viewId() == viewId) {
+            drainedPeers.computeIfAbsent(viewId, key -> ConcurrentHashMap.newKeySet()).add(peer);
+        }
+    }
+
+    // 인스턴스 종료 시 drained 마커 삭제
+    void clearDrainedMarker() {
+        redisTemplate.delete(DRAINED_KEY_PREFIX + instanceId);
+    }
+
+    /**
+     * @param current   현재 링
+     * @param previous  직전 링 (handoff 대상 확인용)
+     */
+    private record View(ConsistentHashRing current, ConsistentHashRing previous) {
+    }
+}
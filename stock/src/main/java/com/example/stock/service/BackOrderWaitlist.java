@@ -0,0 +1,171 @@
+package com.example.stock.service;
+
+import com.example.stock.domain.Stock;
+import com.example.stock.event.SoldOutEvent;
+import com.example.stock.exception.OutOfStockException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongPredicate;
+
+/**
+ * 품절 상품의 입고를 기다리는 구매자 대기열 (상품재고 아이디별 FIFO)
+ *  . 모든 재고 증가 경로는 증가 직후 fulfill 로 대기자를 먼저 처리
+ *  . 모든 재고 감소 경로는 rejectIfQueued 로 대기자가 있으면 거절하여 대기하지 않은 구매자가 앞지르지 않도록 함
+ * 대기열 변경은 상품재고를 변경하는 트랜잭션 (행 Lock 또는 전략별 Lock) 안에서 일어남
+ * 대기열 하나의 변경은 ConcurrentHashMap.compute 안에서 원자적으로 처리하고, 비워진 대기열은 맵에서 제거
+ */
+@Component
+public class BackOrderWaitlist {
+
+    // 상품재고 하나당 최대 대기 인원
+    private final int capacity;
+
+    // 상품재고 아이디별 대기열
+    private final ConcurrentMap<Long, Deque<BackOrder>> waitlists = new ConcurrentHashMap<>();
+
+    public BackOrderWaitlist(@Value("${stock.backorder.capacity:1000}") int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * 대기열 맨 뒤에 추가
+     * @param id        상품재고 아이디
+     * @param quantity  요청 수량
+     * @return 입고로 요청이 처리되면 완료되는 Future
+     */
+    public CompletableFuture<Void> enqueue(Long id, Long quantity) {
+        BackOrder backOrder = new BackOrder(quantity, new CompletableFuture<>());
+
+        waitlists.compute(id, (key, waitlist) -> {
+            Deque<BackOrder> queue = waitlist == null ? new ArrayDeque<>() : waitlist;
+            queue.removeIf(BackOrder::isCancelled);
+            if(queue.size() >= capacity) {
+                throw new IllegalStateException("입고 대기 인원이 가득 찼습니다.");
+            }
+            queue.addLast(backOrder);
+            return queue;
+        });
+
+        return backOrder.future();
+    }
+
+    // 대기 중인 구매자가 있는지 확인 (새 구매자가 대기자를 앞지르지 않도록 사용)
+    public boolean hasWaiters(Long id) {
+        if(waitlists.isEmpty()) {
+            return false;
+        }
+
+        return waitlists.computeIfPresent(id, (key, queue) -> {
+            queue.removeIf(BackOrder::isCancelled);
+            return queue.isEmpty() ? null : queue;
+        }) != null;
+    }
+
+    // 대기 중인 구매자가 있으면 재고가 남아 있어도 재고 부족으로 거절
+    public void rejectIfQueued(Long id, Long quantity) {
+        if(hasWaiters(id)) {
+            SoldOutEvent.record(id, null, quantity, 0L);
+            throw new OutOfStockException("입고 대기 중인 구매자가 있어 먼저 처리합니다. (재고 아이디 : " + id + ")");
+        }
+    }
+
+    /**
+     * 재고 증가 직후 대기열 앞에서부터 채울 수 있는 만큼 재고를 차감하여 처리
+     * 상품재고를 변경하는 트랜잭션 안에서 호출하고, 커밋된 이후에 대기자에게 완료를 알리며 롤백되면 대기자를 원래 자리로 되돌림
+     * @param stock 재고를 증가시킨 상품재고 (호출자가 저장)
+     */
+    public void fulfill(Stock stock) {
+        Long id = stock.getId();
+        List<BackOrder> satisfied = drain(id, requested -> {
+            if(stock.getQuantity() < requested) {
+                return false;
+            }
+            stock.decrease(requested);
+            return true;
+        });
+
+        if(satisfied.isEmpty()) {
+            return;
+        }
+
+        if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+            satisfied.forEach(backOrder -> backOrder.future().complete(null));
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if(status == STATUS_COMMITTED) {
+                    satisfied.forEach(backOrder -> backOrder.future().complete(null));
+                } else {
+                    restore(id, satisfied);
+                }
+            }
+        });
+    }
+
+    /**
+     * 앞에서부터 순서대로 꺼냄
+     * 맨 앞의 요청을 채울 수 없으면 뒤의 요청이 더 작더라도 꺼내지 않음 (FIFO 보장)
+     * @param id        상품재고 아이디
+     * @param canFill   요청 수량을 채울 수 있는지 확인하고 채울 수 있다면 차감까지 수행하는 함수
+     */
+    public List<BackOrder> drain(Long id, LongPredicate canFill) {
+        List<BackOrder> drained = new ArrayList<>();
+
+        waitlists.computeIfPresent(id, (key, queue) -> {
+            while(!queue.isEmpty()) {
+                BackOrder head = queue.peekFirst();
+                if(head.isCancelled()) {
+                    queue.pollFirst();
+                    continue;
+                }
+                if(!canFill.test(head.quantity())) {
+                    break;
+                }
+                drained.add(queue.pollFirst());
+            }
+            return queue.isEmpty() ? null : queue;
+        });
+
+        return drained;
+    }
+
+    // 트랜잭션 롤백 시 꺼냈던 요청을 원래 순서대로 맨 앞에 되돌림
+    public void restore(Long id, List<BackOrder> drained) {
+        waitlists.compute(id, (key, waitlist) -> {
+            Deque<BackOrder> queue = waitlist == null ? new ArrayDeque<>() : waitlist;
+            for(int i = drained.size() - 1; i >= 0; i--) {
+                queue.addFirst(drained.get(i));
+            }
+            return queue;
+        });
+    }
+
+    // 대기열이 남아 있는 상품재고 수 (비워진 대기열은 제거되므로 0 이면 대기자 없음)
+    int size() {
+        return waitlists.size();
+    }
+
+    /**
+     * 입고 대기 요청
+     * @param quantity  요청 수량
+     * @param future    처리 완료 시 완료되는 Future (호출자가 취소하면 대기열에서 제외)
+     */
+    public record BackOrder(Long quantity, CompletableFuture<Void> future) {
+        boolean isCancelled() {
+            return future.isCancelled();
+        }
+    }
+}
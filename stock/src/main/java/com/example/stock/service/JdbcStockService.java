@@ -0,0 +1,196 @@
+package com.example.stock.service;
+
+import com.example.stock.domain.Stock;
+import com.example.stock.event.SoldOutEvent;
+import com.example.stock.event.StockTransactionEvent;
+import com.example.stock.event.Strategy;
+import com.example.stock.exception.OutOfStockException;
+import com.example.stock.repository.RedisPurchaseLimitRepository;
+import jakarta.transaction.Transactional;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * JDBC 를 직접 사용하는 상품재고 서비스 로직
+ * StockService / PessimisticLockStockService / OptimisticLockStockService 와 같은 동작을 하지만
+ * 엔티티 로딩, dirty checking, flush 를 거치지 않아 요청당 할당과 CPU 사용량이 적음
+ * 같은 SQL 을 반복 실행하므로 드라이버의 PreparedStatement 캐시 설정 (application.properties) 과 함께 사용
+ */
+@Service
+public class JdbcStockService {
+
+    // 재고가 충분한 경우에만 차감 (버전도 함께 올려 낙관적 락 사용 경로와 충돌을 감지할 수 있게 함)
+    private static final String DECREASE_IF_AVAILABLE =
+            "update stock set quantity = quantity - ?, version = version + 1 where id = ? and quantity >= ?";
+
+    private static final String DECREASE_IF_AVAILABLE_BY_PRODUCT_ID =
+            "update stock set quantity = quantity - ?, version = version + 1 where product_id = ? and quantity >= ?";
+
+    private static final String SELECT_QUANTITY = "select quantity from stock where id = ?";
+
+    private static final String SELECT_QUANTITY_BY_PRODUCT_ID = "select quantity from stock where product_id = ?";
+
+    private static final String SELECT_QUANTITY_FOR_UPDATE = "select quantity from stock where id = ? for update";
+
+    private static final String SELECT_QUANTITY_AND_VERSION = "select quantity, version from stock where id = ?";
+
+    private static final String UPDATE_QUANTITY = "update stock set quantity = ?, version = version + 1 where id = ?";
+
+    private static final String UPDATE_QUANTITY_IF_VERSION =
+            "update stock set quantity = ?, version = version + 1 where id = ? and version = ?";
+
+    // SQL 실행을 위한 템플릿 변수 선언 (JPA 트랜잭션과 같은 커넥션을 사용)
+    private final JdbcTemplate jdbcTemplate;
+
+    // 입고 대기열 (대기자가 있으면 감소 거절)
+    private final BackOrderWaitlist backOrderWaitlist;
+
+    // 상품 아이디 > 상품재고 아이디 변환 (대기열 확인용)
+    private final StockIdResolver stockIdResolver;
+
+    // Redis 에 올라간 재고 (DB 재고 변경 후 삭제)
+    private final RedisPurchaseLimitRepository redisPurchaseLimitRepository;
+
+    public JdbcStockService(JdbcTemplate jdbcTemplate, BackOrderWaitlist backOrderWaitlist, StockIdResolver stockIdResolver,
+                            RedisPurchaseLimitRepository redisPurchaseLimitRepository) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.backOrderWaitlist = backOrderWaitlist;
+        this.stockIdResolver = stockIdResolver;
+        this.redisPurchaseLimitRepository = redisPurchaseLimitRepository;
+    }
+
+    /**
+     * 상품재고 감소 (StockService.decrease 대응)
+     * 조회 없이 조건부 업데이트 한 번으로 처리
+     * @param id        상품 아이디
+     * @param quantity  상품 수량
+     */
+    @Transactional
+    public void decrease(Long id, Long quantity) {
+        StockTransactionEvent.track(Strategy.NONE, id);
+        redisPurchaseLimitRepository.evictStockAfterCommit(id);
+        decreaseIfAvailable(id, quantity);
+    }
+
+    /**
+     * Redis 재고에서 이미 차감한 수량을 DB 에 반영 (PurchaseLimitService Redis 전략)
+     * Redis 재고에는 이미 반영되어 있으므로 다른 감소 경로와 달리 Redis 재고를 삭제하지 않음
+     * @param id        상품 아이디
+     * @param quantity  상품 수량
+     */
+    @Transactional
+    public void decreaseReservedInRedis(Long id, Long quantity) {
+        StockTransactionEvent.track(Strategy.NONE, id);
+        decreaseIfAvailable(id, quantity);
+    }
+
+    /**
+     * 상품재고 감소 (상품 아이디 사용, uk_stock_product_id 인덱스로 조건부 업데이트 한 번에 처리)
+     * @param productId 상품 아이디
+     * @param quantity  상품 수량
+     */
+    @Transactional
+    public void decreaseByProductId(Long productId, Long quantity) {
+        Stock.checkDecreaseQuantity(quantity);
+        Long stockId = stockIdResolver.resolve(productId);
+        StockTransactionEvent.track(Strategy.NONE, stockId);
+        redisPurchaseLimitRepository.evictStockAfterCommit(stockId);
+        backOrderWaitlist.rejectIfQueued(stockId, quantity);
+
+        if(jdbcTemplate.update(DECREASE_IF_AVAILABLE_BY_PRODUCT_ID, quantity, productId, quantity) == 0) {
+            long available = queryQuantity(SELECT_QUANTITY_BY_PRODUCT_ID, productId);
+            SoldOutEvent.record(null, productId, quantity, available);
+            throw new OutOfStockException();
+        }
+    }
+
+    /**
+     * 네임드 락 (Named Lock) 사용 시 상품재고 감소 (StockService.decreaseUsingNamedLock 대응)
+     * 부모의 트랜잭션과 별도로 실행 되어야 하므로 Propagation 변경
+     * @param id        상품 아이디
+     * @param quantity  상품 수량
+     */
+    @org.springframework.transaction.annotation.Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void decreaseUsingNamedLock(Long id, Long quantity) {
+        StockTransactionEvent.track(Strategy.NAMED, id);
+        redisPurchaseLimitRepository.evictStockAfterCommit(id);
+        decreaseIfAvailable(id, quantity);
+    }
+
+    /**
+     * 비관적 락 (Pessimistic Lock) 을 이용한 상품재고 감소 (PessimisticLockStockService.decrease 대응)
+     * @param id        상품 아이디
+     * @param quantity  상품 수량
+     */
+    @Transactional
+    public void decreaseWithPessimisticLock(Long id, Long quantity) {
+        StockTransactionEvent.track(Strategy.PESSIMISTIC, id);
+        redisPurchaseLimitRepository.evictStockAfterCommit(id);
+
+        Stock.checkDecreaseQuantity(quantity);
+        long current = queryQuantity(SELECT_QUANTITY_FOR_UPDATE, id);
+        backOrderWaitlist.rejectIfQueued(id, quantity);
+        if(current < quantity) {
+            throw soldOut(id, quantity, current);
+        }
+
+        jdbcTemplate.update(UPDATE_QUANTITY, current - quantity, id);
+    }
+
+    /**
+     * 낙관적 락 (Optimistic Lock) 을 이용한 상품재고 감소 (OptimisticLockStockService.decrease 대응)
+     * 버전이 바뀐 경우 JPA 경로와 같은 예외를 던지므로 OptimisticLockStockFacade 의 재시도 로직을 그대로 사용할 수 있음
+     * @param id        상품 아이디
+     * @param quantity  상품 수량
+     */
+    @Transactional
+    public void decreaseWithOptimisticLock(Long id, Long quantity) {
+        StockTransactionEvent.track(Strategy.OPTIMISTIC, id);
+        redisPurchaseLimitRepository.evictStockAfterCommit(id);
+        Stock.checkDecreaseQuantity(quantity);
+        backOrderWaitlist.rejectIfQueued(id, quantity);
+
+        List<long[]> rows = jdbcTemplate.query(SELECT_QUANTITY_AND_VERSION,
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)}, id);
+        if(rows.isEmpty()) {
+            throw new NoSuchElementException("No value present");
+        }
+
+        long current = rows.get(0)[0];
+        long version = rows.get(0)[1];
+        if(current < quantity) {
+            throw soldOut(id, quantity, current);
+        }
+
+        if(jdbcTemplate.update(UPDATE_QUANTITY_IF_VERSION, current - quantity, id, version) == 0) {
+            throw new ObjectOptimisticLockingFailureException(Stock.class, id);
+        }
+    }
+
+    // 조건부 업데이트 후 반영되지 않았다면 원인 (상품 없음 / 재고 부족) 확인
+    private void decreaseIfAvailable(Long id, Long quantity) {
+        Stock.checkDecreaseQuantity(quantity);
+        backOrderWaitlist.rejectIfQueued(id, quantity);
+        if(jdbcTemplate.update(DECREASE_IF_AVAILABLE, quantity, id, quantity) == 0) {
+            throw soldOut(id, quantity, queryQuantity(SELECT_QUANTITY, id));
+        }
+    }
+
+    private long queryQuantity(String sql, Long id) {
+        List<Long> quantities = jdbcTemplate.queryForList(sql, Long.class, id);
+        if(quantities.isEmpty()) {
+            throw new NoSuchElementException("No value present");
+        }
+        return quantities.get(0);
+    }
+
+    private OutOfStockException soldOut(Long id, Long requested, long available) {
+        SoldOutEvent.record(id, null, requested, available);
+        return new OutOfStockException();
+    }
+}
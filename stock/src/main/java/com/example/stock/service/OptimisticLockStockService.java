@@ -1,10 +1,16 @@
 package com.example.stock.service;
 
 import com.example.stock.domain.Stock;
+import com.example.stock.event.StockTransactionEvent;
+import com.example.stock.event.Strategy;
+import com.example.stock.repository.ProcessedRequestRepository;
+import com.example.stock.repository.RedisPurchaseLimitRepository;
 import com.example.stock.repository.StockRepository;
 import jakarta.transaction.Transactional;
 import org.springframework.stereotype.Service;
 
+import java.util.NoSuchElementException;
+
 /**
  * 낙관적 락 (Optimistic Lock) 을 이용한 상품재고 서비스 로직
  */
@@ -14,15 +20,68 @@ public class OptimisticLockStockService {
     // 상품재고 CRUD 를 위한 변수 선언
     private final StockRepository stockRepository;
 
-    public OptimisticLockStockService(StockRepository stockRepository) {
+    // 처리 완료된 요청 (멱등성 키) 저장소
+    private final ProcessedRequestRepository processedRequestRepository;
+
+    // 입고 대기열 (대기자가 있으면 감소 거절, 증가 시 대기자 먼저 처리)
+    private final BackOrderWaitlist backOrderWaitlist;
+
+    // Redis 에 올라간 재고 (DB 재고 변경 후 삭제)
+    private final RedisPurchaseLimitRepository redisPurchaseLimitRepository;
+
+    public OptimisticLockStockService(StockRepository stockRepository, ProcessedRequestRepository processedRequestRepository,
+                                      BackOrderWaitlist backOrderWaitlist, RedisPurchaseLimitRepository redisPurchaseLimitRepository) {
         this.stockRepository = stockRepository;
+        this.processedRequestRepository = processedRequestRepository;
+        this.backOrderWaitlist = backOrderWaitlist;
+        this.redisPurchaseLimitRepository = redisPurchaseLimitRepository;
     }
 
     // 낙관적 락 (Optimistic Lock) 을 이용한 상품재고 감소 로직 구현
     @Transactional
     public void decrease(Long id, Long quantity) {
+        StockTransactionEvent.track(Strategy.OPTIMISTIC, id);
+        redisPurchaseLimitRepository.evictStockAfterCommit(id);
+
         Stock stock = stockRepository.findByIdWithOptimisticLock(id);
+        if(stock == null) {
+            throw new NoSuchElementException("재고가 존재하지 않습니다. (아이디 : " + id + ")");
+        }
+        backOrderWaitlist.rejectIfQueued(id, quantity);
+        stock.decrease(quantity);
+        stockRepository.save(stock);
+    }
+
+    // 낙관적 락 (Optimistic Lock) 을 이용한 상품재고 감소 로직 구현 (상품 아이디 사용)
+    @Transactional
+    public void decreaseByProductId(Long productId, Long quantity) {
+        Stock stock = stockRepository.findByProductIdWithOptimisticLock(productId).orElseThrow();
+        StockTransactionEvent.track(Strategy.OPTIMISTIC, stock.getId());
+        redisPurchaseLimitRepository.evictStockAfterCommit(stock.getId());
+        backOrderWaitlist.rejectIfQueued(stock.getId(), quantity);
         stock.decrease(quantity);
         stockRepository.save(stock);
     }
+
+    // 낙관적 락 (Optimistic Lock) 을 이용한 상품재고 감소 로직 구현 (멱등성 키 사용, 키 저장과 재고 감소를 한 트랜잭션으로 처리)
+    @Transactional
+    public void decrease(String requestKey, Long id, Long quantity) {
+        processedRequestRepository.insert(requestKey, id, quantity);
+        decrease(id, quantity);
+    }
+
+    // 낙관적 락 (Optimistic Lock) 을 이용한 상품재고 증가 (입고) 로직 구현
+    @Transactional
+    public void increase(Long id, Long quantity) {
+        StockTransactionEvent.track(Strategy.OPTIMISTIC, id);
+        redisPurchaseLimitRepository.evictStockAfterCommit(id);
+
+        Stock stock = stockRepository.findByIdWithOptimisticLock(id);
+        if(stock == null) {
+            throw new NoSuchElementException("재고가 존재하지 않습니다. (아이디 : " + id + ")");
+        }
+        stock.increase(quantity);
+        backOrderWaitlist.fulfill(stock);
+        stockRepository.save(stock);
+    }
 }
@@ -1,9 +1,24 @@
 package com.example.stock.service;
 
+import com.example.stock.deadline.Deadline;
+import com.example.stock.deadline.DeadlineContext;
 import com.example.stock.domain.Stock;
+import com.example.stock.event.LockAcquireEvent;
+import com.example.stock.event.LockHoldEvent;
+import com.example.stock.event.StockTransactionEvent;
+import com.example.stock.event.Strategy;
+import com.example.stock.repository.RedisPurchaseLimitRepository;
 import com.example.stock.repository.StockRepository;
+import com.example.stock.exception.StockBusyException;
 import jakarta.transaction.Transactional;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
 
 /**
  * 비관적 락 (Pessimistic Lock) 을 이용한 상품재고 서비스 로직
@@ -14,15 +29,107 @@ public class PessimisticLockStockService {
     // 상품재고 CRUD 를 위한 변수 선언
     private final StockRepository stockRepository;
 
-    public PessimisticLockStockService(StockRepository stockRepository) {
+    // 입고 대기열 (대기자가 있으면 감소 거절, 증가 시 대기자 먼저 처리)
+    private final BackOrderWaitlist backOrderWaitlist;
+
+    // 상품 아이디 > 상품재고 아이디 변환 (이벤트 / 예외 메시지는 상품재고 아이디 기준)
+    private final StockIdResolver stockIdResolver;
+
+    // Redis 에 올라간 재고 (DB 재고 변경 후 삭제)
+    private final RedisPurchaseLimitRepository redisPurchaseLimitRepository;
+
+    public PessimisticLockStockService(StockRepository stockRepository, BackOrderWaitlist backOrderWaitlist,
+                                       StockIdResolver stockIdResolver, RedisPurchaseLimitRepository redisPurchaseLimitRepository) {
         this.stockRepository = stockRepository;
+        this.backOrderWaitlist = backOrderWaitlist;
+        this.stockIdResolver = stockIdResolver;
+        this.redisPurchaseLimitRepository = redisPurchaseLimitRepository;
     }
 
-    // 비관적 락 (Pessimistic Lock) 을 이용한 상품재고 감소 로직 구현
+    // 비관적 락 (Pessimistic Lock) 을 이용한 상품재고 감소 로직 구현 (요청 기한이 있으면 남은 시간만 Lock 대기)
     @Transactional
     public void decrease(Long id, Long quantity) {
+        Deadline deadline = DeadlineContext.current();
+        if(deadline != null) {
+            decreaseWithLock(id, quantity, () -> stockRepository.findByIdWithPessimisticLock(id, deadline.remaining()));
+            return;
+        }
+        decreaseWithLock(id, quantity, () -> stockRepository.findByIdWithPessimisticLock(id));
+    }
+
+    // 비관적 락 (Pessimistic Lock) 을 이용한 상품재고 감소 로직 구현 (NOWAIT, 다른 트랜잭션이 점유 중이면 대기 없이 StockBusyException)
+    @Transactional
+    public void decreaseNoWait(Long id, Long quantity) {
+        decreaseWithLock(id, quantity, () -> stockRepository.findByIdWithPessimisticLockNoWait(id));
+    }
+
+    // 비관적 락 (Pessimistic Lock) 을 이용한 상품재고 감소 로직 구현 (Lock 대기 시간 지정, 초과 시 StockBusyException)
+    @Transactional
+    public void decrease(Long id, Long quantity, Duration lockTimeout) {
+        decreaseWithLock(id, quantity, () -> stockRepository.findByIdWithPessimisticLock(id, lockTimeout));
+    }
+
+    // 비관적 락 (Pessimistic Lock) 을 이용한 상품재고 감소 로직 구현 (상품 아이디 사용, 상품재고 아이디로 변환 후 같은 경로로 처리)
+    @Transactional
+    public void decreaseByProductId(Long productId, Long quantity) {
+        stockIdResolver.execute(productId, id -> decrease(id, quantity));
+    }
+
+    // 비관적 락 (Pessimistic Lock) 을 이용한 상품재고 증가 (입고) 로직 구현
+    @Transactional
+    public void increase(Long id, Long quantity) {
+        StockTransactionEvent.track(Strategy.PESSIMISTIC, id);
+        redisPurchaseLimitRepository.evictStockAfterCommit(id);
+
         Stock stock = stockRepository.findByIdWithPessimisticLock(id);
+        if(stock == null) {
+            throw new NoSuchElementException("재고가 존재하지 않습니다. (아이디 : " + id + ")");
+        }
+        stock.increase(quantity);
+        backOrderWaitlist.fulfill(stock);
+        stockRepository.save(stock);
+    }
+
+    // Lock 조회 후 재고 감소, Lock 대기 실패는 StockBusyException 으로 변환
+    private void decreaseWithLock(Long id, Long quantity, Supplier<Stock> lockQuery) {
+        StockTransactionEvent.track(Strategy.PESSIMISTIC, id);
+        redisPurchaseLimitRepository.evictStockAfterCommit(id);
+
+        // select ... for update 대기 시간이 곧 Lock 대기 시간
+        LockAcquireEvent acquireEvent = new LockAcquireEvent();
+        acquireEvent.begin();
+        Stock stock;
+        try {
+            stock = lockQuery.get();
+        } catch (PessimisticLockingFailureException e) {
+            acquireEvent.complete(Strategy.PESSIMISTIC, id.toString(), false, 1);
+            throw new StockBusyException(id, e);
+        }
+        acquireEvent.complete(Strategy.PESSIMISTIC, id.toString(), true, 1);
+        if(stock == null) {
+            throw new NoSuchElementException("재고가 존재하지 않습니다. (아이디 : " + id + ")");
+        }
+        holdUntilCompletion(id);
+
+        // 행 Lock 을 잡은 상태에서 대기열 확인 (입고 처리와 순서가 엇갈리지 않음)
+        backOrderWaitlist.rejectIfQueued(stock.getId(), quantity);
         stock.decrease(quantity);
         stockRepository.save(stock);
     }
+
+    // 행 Lock 은 트랜잭션이 끝날 때 해제되므로 트랜잭션 종료 시점에 점유 구간 기록
+    private void holdUntilCompletion(Long id) {
+        LockHoldEvent holdEvent = new LockHoldEvent();
+        if(!holdEvent.isEnabled() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        holdEvent.begin();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                holdEvent.release(Strategy.PESSIMISTIC, id.toString());
+            }
+        });
+    }
 }
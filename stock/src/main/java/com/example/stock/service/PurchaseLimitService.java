@@ -0,0 +1,160 @@
+package com.example.stock.service;
+
+import com.example.stock.domain.PurchaseLimit;
+import com.example.stock.domain.Stock;
+import com.example.stock.event.SoldOutEvent;
+import com.example.stock.exception.OutOfStockException;
+import com.example.stock.exception.PurchaseLimitExceededException;
+import com.example.stock.repository.PurchaseCounterRepository;
+import com.example.stock.repository.RedisPurchaseLimitRepository;
+import com.example.stock.repository.StockRepository;
+import jakarta.transaction.Transactional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 사용자별 구매 한도를 적용한 상품재고 감소 서비스 로직
+ * 별도의 Lock 이나 트랜잭션 안의 추가 조회 없이 한도 확인과 재고 차감을 한 번에 처리
+ *  . Redis 전략 : Lua 스크립트 한 번으로 한도 확인 / 카운터 증가 / Redis 재고 차감 후 DB 에는 조건부 업데이트로 반영
+ *  . DB 전략    : 카운터 행과 재고 행을 함께 갱신하는 UPDATE 한 문장으로 처리
+ */
+@Service
+public class PurchaseLimitService {
+
+    // 카운터 행이 없으면 생성 (이미 있으면 무시)
+    private static final String ENSURE_COUNTER =
+            "insert ignore into purchase_counter (user_id, stock_id, bucket, purchased, expires_at) values (?, ?, ?, 0, ?)";
+
+    // 한도와 재고를 모두 만족하는 경우에만 카운터 증가 및 재고 차감
+    private static final String DECREASE_WITHIN_LIMIT =
+            "update stock s join purchase_counter c on c.stock_id = s.id " +
+            "set s.quantity = s.quantity - ?, s.version = s.version + 1, c.purchased = c.purchased + ? " +
+            "where s.id = ? and c.user_id = ? and c.bucket = ? and s.quantity >= ? and c.purchased + ? <= ?";
+
+    private static final String SELECT_PURCHASED =
+            "select purchased from purchase_counter where user_id = ? and stock_id = ? and bucket = ?";
+
+    // Redis 구매 한도 저장소
+    private final RedisPurchaseLimitRepository redisPurchaseLimitRepository;
+
+    // DB 구매 카운터 저장소
+    private final PurchaseCounterRepository purchaseCounterRepository;
+
+    // 상품재고 인터페이스 변수 선언
+    private final StockRepository stockRepository;
+
+    // DB 재고 반영을 위한 JDBC 서비스
+    private final JdbcStockService jdbcStockService;
+
+    // SQL 실행을 위한 템플릿 변수 선언
+    private final JdbcTemplate jdbcTemplate;
+
+    // Redis 에 올린 재고의 보관 시간 (DB 재고를 바꾸는 경로는 커밋 후 Redis 재고를 삭제하므로, 삭제와 다시 읽기가 엇갈린 경우에만 이 시간만큼 어긋날 수 있음)
+    private final Duration stockCacheTtl;
+
+    // 입고 대기열 (대기자가 있으면 구매 거절)
+    private final BackOrderWaitlist backOrderWaitlist;
+
+    public PurchaseLimitService(RedisPurchaseLimitRepository redisPurchaseLimitRepository,
+                                PurchaseCounterRepository purchaseCounterRepository,
+                                StockRepository stockRepository,
+                                JdbcStockService jdbcStockService,
+                                JdbcTemplate jdbcTemplate,
+                                BackOrderWaitlist backOrderWaitlist,
+                                @Value("${stock.purchase-limit.stock-cache-ttl:30s}") Duration stockCacheTtl) {
+        this.redisPurchaseLimitRepository = redisPurchaseLimitRepository;
+        this.purchaseCounterRepository = purchaseCounterRepository;
+        this.stockRepository = stockRepository;
+        this.jdbcStockService = jdbcStockService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.stockCacheTtl = stockCacheTtl;
+        this.backOrderWaitlist = backOrderWaitlist;
+    }
+
+    /**
+     * Redis 전략 : 구매 한도 확인 및 재고 감소
+     * DB 반영에 실패하면 Redis 에 반영한 내용을 되돌림
+     * @param userId    사용자 아이디
+     * @param id        상품재고 아이디
+     * @param quantity  구매 수량
+     * @param limit     구매 한도
+     */
+    public void decreaseUsingRedis(Long userId, Long id, Long quantity, PurchaseLimit limit) {
+        Stock.checkDecreaseQuantity(quantity);
+        backOrderWaitlist.rejectIfQueued(id, quantity);
+
+        String member = UUID.randomUUID().toString();
+        long now = System.currentTimeMillis();
+
+        long result = redisPurchaseLimitRepository.decrease(userId, id, quantity, limit, member, now);
+        if(result == RedisPurchaseLimitRepository.NOT_LOADED) {
+            redisPurchaseLimitRepository.loadStock(id, stockRepository.findById(id).orElseThrow().getQuantity(), stockCacheTtl);
+            result = redisPurchaseLimitRepository.decrease(userId, id, quantity, limit, member, now);
+        }
+
+        if(result == RedisPurchaseLimitRepository.LIMIT_EXCEEDED) {
+            throw new PurchaseLimitExceededException(userId, id, limit.maxQuantity());
+        }
+        if(result == RedisPurchaseLimitRepository.SOLD_OUT) {
+            SoldOutEvent.record(id, null, quantity, 0L);
+            throw new OutOfStockException();
+        }
+
+        try {
+            jdbcStockService.decreaseReservedInRedis(id, quantity);
+        } catch(RuntimeException e) {
+            redisPurchaseLimitRepository.rollback(userId, id, quantity, limit, member);
+            throw e;
+        }
+    }
+
+    /**
+     * DB 전략 : 구매 한도 확인 및 재고 감소
+     * 슬라이딩 윈도우는 윈도우 길이 단위의 고정 구간으로 근사함
+     * @param userId    사용자 아이디
+     * @param id        상품재고 아이디
+     * @param quantity  구매 수량
+     * @param limit     구매 한도
+     */
+    @Transactional
+    public void decreaseUsingDatabase(Long userId, Long id, Long quantity, PurchaseLimit limit) {
+        Stock.checkDecreaseQuantity(quantity);
+        backOrderWaitlist.rejectIfQueued(id, quantity);
+        redisPurchaseLimitRepository.evictStockAfterCommit(id);
+
+        long now = System.currentTimeMillis();
+        String bucket = limit.bucketKey(now);
+        long periodMillis = limit.period().toMillis();
+        long expiresAt = limit.scope() == PurchaseLimit.Scope.CAMPAIGN
+                ? now + periodMillis
+                : (now / periodMillis + 1) * periodMillis;
+
+        jdbcTemplate.update(ENSURE_COUNTER, userId, id, bucket, new Timestamp(expiresAt));
+
+        if(jdbcTemplate.update(DECREASE_WITHIN_LIMIT, quantity, quantity, id, userId, bucket, quantity, quantity, limit.maxQuantity()) > 0) {
+            return;
+        }
+
+        // 반영되지 않은 경우 원인 확인
+        Long purchased = jdbcTemplate.queryForObject(SELECT_PURCHASED, Long.class, userId, id, bucket);
+        if(purchased != null && purchased + quantity > limit.maxQuantity()) {
+            throw new PurchaseLimitExceededException(userId, id, limit.maxQuantity());
+        }
+
+        SoldOutEvent.record(id, null, quantity, 0L);
+        throw new OutOfStockException();
+    }
+
+    // 만료된 DB 카운터 정리 (Redis 카운터는 키 만료로 정리됨)
+    @Scheduled(fixedDelayString = "${stock.purchase-limit.purge-interval:PT1M}")
+    public void purgeExpiredCounters() {
+        purchaseCounterRepository.deleteExpiredBefore(Instant.now());
+    }
+}
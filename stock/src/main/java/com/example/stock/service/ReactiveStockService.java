@@ -0,0 +1,156 @@
+package com.example.stock.service;
+
+import com.example.stock.domain.Stock;
+import com.example.stock.event.SoldOutEvent;
+import com.example.stock.exception.OutOfStockException;
+import com.example.stock.exception.StaleFencingTokenException;
+import com.example.stock.repository.RedisPurchaseLimitRepository;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.NoSuchElementException;
+
+/**
+ * 상품재고 관련 논블로킹 서비스 로직 (stock.reactive.enabled=true 일 때만 동작)
+ * R2DBC 로 조건부 UPDATE 한 번에 재고를 감소시키므로 DB 응답을 기다리는 동안 스레드를 점유하지 않음
+ *
+ * R2DBC ConnectionFactory 를 빈으로 등록하면 스프링 부트가 JDBC DataSource 자동 설정을 건너뛰므로
+ * 커넥션 풀은 빈으로 노출하지 않고 이 서비스가 직접 생성 / 종료 (R2dbcAutoConfiguration 도 application.properties 에서 제외)
+ */
+@Service
+@ConditionalOnProperty(name = "stock.reactive.enabled", havingValue = "true")
+public class ReactiveStockService {
+
+    // R2DBC 커넥션 풀
+    private final ConnectionPool connectionPool;
+
+    // 논블로킹 SQL 실행 클라이언트
+    private final DatabaseClient databaseClient;
+
+    // 입고 대기열 (대기자가 있으면 감소 거절)
+    private final BackOrderWaitlist backOrderWaitlist;
+
+    // Redis 에 올라간 재고 삭제 (키 생성 규칙은 RedisPurchaseLimitRepository 와 공유)
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final RedisPurchaseLimitRepository redisPurchaseLimitRepository;
+
+    /**
+     * @param url       R2DBC 접속 URL (생략 시 spring.datasource.url 의 jdbc: 를 r2dbc: 로 바꾸고 쿼리 파라미터를 제외하여 사용)
+     * @param maxSize   커넥션 풀 최대 크기 (요청마다 스레드를 점유하지 않으므로 JDBC 풀보다 작게 잡아도 됨)
+     */
+    public ReactiveStockService(@Value("${stock.reactive.r2dbc.url:}") String url,
+                                @Value("${spring.datasource.url:}") String jdbcUrl,
+                                @Value("${stock.reactive.r2dbc.username:${spring.datasource.username:}}") String username,
+                                @Value("${stock.reactive.r2dbc.password:${spring.datasource.password:}}") String password,
+                                @Value("${stock.reactive.r2dbc.pool-max-size:20}") int maxSize,
+                                BackOrderWaitlist backOrderWaitlist,
+                                ReactiveStringRedisTemplate redisTemplate,
+                                RedisPurchaseLimitRepository redisPurchaseLimitRepository) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url.isBlank() ? toR2dbcUrl(jdbcUrl) : url)
+                .mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .name("reactive-stock")
+                .maxSize(maxSize)
+                .build());
+        this.databaseClient = DatabaseClient.create(connectionPool);
+        this.backOrderWaitlist = backOrderWaitlist;
+        this.redisTemplate = redisTemplate;
+        this.redisPurchaseLimitRepository = redisPurchaseLimitRepository;
+    }
+
+    /**
+     * 상품재고 감소 메소드
+     * 수량이 충분한 경우에만 차감하는 조건부 UPDATE, 반영되지 않은 경우 OutOfStockException / NoSuchElementException
+     * @param id        상품재고 아이디
+     * @param quantity  상품 수량
+     */
+    public Mono<Void> decrease(Long id, Long quantity) {
+        return Mono.fromRunnable(() -> checkDecrease(id, quantity)).then(databaseClient.sql("update stock set quantity = quantity - :quantity, version = version + 1 " +
+                        "where id = :id and quantity >= :quantity")
+                .bind("quantity", quantity)
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated()
+                .flatMap(updated -> updated > 0 ? evictStock(id) : rejected(id, quantity, null)));
+    }
+
+    /**
+     * 상품재고 감소 메소드 (펜싱 토큰 사용)
+     * StockService.decreaseWithFencingToken 과 같은 조건 (마지막으로 반영된 토큰보다 큰 토큰인 경우에만 반영)
+     * @param id        상품재고 아이디
+     * @param quantity  상품 수량
+     * @param token     Lock 획득 시 발급받은 펜싱 토큰
+     */
+    public Mono<Void> decreaseWithFencingToken(Long id, Long quantity, Long token) {
+        return Mono.fromRunnable(() -> checkDecrease(id, quantity)).then(databaseClient.sql("update stock set quantity = quantity - :quantity, fencing_token = :token, version = version + 1 " +
+                        "where id = :id and quantity >= :quantity and (fencing_token is null or fencing_token < :token)")
+                .bind("quantity", quantity)
+                .bind("token", token)
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated()
+                .flatMap(updated -> updated > 0 ? evictStock(id) : rejected(id, quantity, token)));
+    }
+
+    // 감소 수량 확인 후 입고 대기자가 있으면 거절
+    private void checkDecrease(Long id, Long quantity) {
+        Stock.checkDecreaseQuantity(quantity);
+        backOrderWaitlist.rejectIfQueued(id, quantity);
+    }
+
+    /*
+     * 반영된 경우 Redis 에 올라간 재고 삭제 (RedisPurchaseLimitRepository.evictStockAfterCommit 과 같은 역할, 자동 커밋이므로 UPDATE 직후 삭제)
+     * 삭제에 실패해도 이미 반영된 감소를 실패로 보이지 않도록 무시 (재고 보관 시간이 지나면 다시 읽어 옴)
+     */
+    private Mono<Void> evictStock(Long id) {
+        return redisTemplate.delete(redisPurchaseLimitRepository.stockKey(id))
+                .onErrorResume(e -> Mono.empty())
+                .then();
+    }
+
+    // 반영되지 않은 원인 (없는 재고 / 만료된 토큰 / 재고 부족) 확인 후 예외 반환
+    private Mono<Void> rejected(Long id, Long quantity, Long token) {
+        return databaseClient.sql("select product_id, quantity, fencing_token from stock where id = :id")
+                .bind("id", id)
+                .map(row -> new StockSnapshot(row.get("product_id", Long.class), row.get("quantity", Long.class), row.get("fencing_token", Long.class)))
+                .one()
+                .switchIfEmpty(Mono.error(() -> new NoSuchElementException("재고가 존재하지 않습니다. (재고 아이디 : " + id + ")")))
+                .flatMap(stock -> {
+                    if(token != null && stock.fencingToken() != null && stock.fencingToken() >= token) {
+                        return Mono.error(new StaleFencingTokenException(id, token, stock.fencingToken()));
+                    }
+                    SoldOutEvent.record(id, stock.productId(), quantity, stock.quantity());
+                    return Mono.error(new OutOfStockException());
+                });
+    }
+
+    // 거절 원인 확인용 재고 조회 결과
+    private record StockSnapshot(Long productId, Long quantity, Long fencingToken) {
+    }
+
+    @PreDestroy
+    public void close() {
+        connectionPool.dispose();
+    }
+
+    // jdbc:mysql://host:3306/stock?... > r2dbc:mysql://host:3306/stock
+    static String toR2dbcUrl(String jdbcUrl) {
+        if(jdbcUrl == null || !jdbcUrl.startsWith("jdbc:")) {
+            throw new IllegalStateException("stock.reactive.r2dbc.url 또는 spring.datasource.url 설정이 필요합니다.");
+        }
+        int query = jdbcUrl.indexOf('?');
+        return "r2dbc:" + jdbcUrl.substring("jdbc:".length(), query < 0 ? jdbcUrl.length() : query);
+    }
+}
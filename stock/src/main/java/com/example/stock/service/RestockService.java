@@ -0,0 +1,87 @@
+package com.example.stock.service;
+
+import com.example.stock.domain.Stock;
+import com.example.stock.event.StockTransactionEvent;
+import com.example.stock.event.Strategy;
+import com.example.stock.repository.RedisPurchaseLimitRepository;
+import com.example.stock.repository.StockRepository;
+import jakarta.transaction.Transactional;
+import org.springframework.stereotype.Service;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 입고 및 입고 대기 (back-order) 관련 서비스 로직
+ * 대기 등록과 입고 모두 비관적 락 (Pessimistic Lock) 으로 상품재고 행을 잠근 상태에서 대기열을 변경하므로
+ * 입고된 재고는 다른 구매자보다 대기 중인 구매자에게 먼저 돌아감
+ */
+@Service
+public class RestockService {
+
+    // 상품재고 CRUD 를 위한 변수 선언
+    private final StockRepository stockRepository;
+
+    // 입고 대기열
+    private final BackOrderWaitlist backOrderWaitlist;
+
+    // Redis 에 올라간 재고 (DB 재고 변경 후 삭제)
+    private final RedisPurchaseLimitRepository redisPurchaseLimitRepository;
+
+    public RestockService(StockRepository stockRepository, BackOrderWaitlist backOrderWaitlist,
+                          RedisPurchaseLimitRepository redisPurchaseLimitRepository) {
+        this.stockRepository = stockRepository;
+        this.backOrderWaitlist = backOrderWaitlist;
+        this.redisPurchaseLimitRepository = redisPurchaseLimitRepository;
+    }
+
+    /**
+     * 재고 감소, 재고가 부족하면 입고 대기 등록
+     * 이미 대기 중인 구매자가 있으면 재고가 남아 있어도 순서를 지키기 위해 대기열 뒤에 등록
+     * @param id        상품재고 아이디
+     * @param quantity  요청 수량
+     * @return 바로 처리되었다면 완료된 Future, 대기 등록되었다면 입고 시 완료되는 Future
+     */
+    @Transactional
+    public CompletableFuture<Void> decreaseOrBackOrder(Long id, Long quantity) {
+        Stock.checkDecreaseQuantity(quantity);
+        StockTransactionEvent.track(Strategy.PESSIMISTIC, id);
+        redisPurchaseLimitRepository.evictStockAfterCommit(id);
+
+        Stock stock = findWithLock(id);
+
+        if(stock.getQuantity() >= quantity && !backOrderWaitlist.hasWaiters(id)) {
+            stock.decrease(quantity);
+            stockRepository.save(stock);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return backOrderWaitlist.enqueue(id, quantity);
+    }
+
+    /**
+     * 입고
+     * 재고를 늘린 뒤 같은 트랜잭션 안에서 대기 중인 구매자를 순서대로 처리 (BackOrderWaitlist.fulfill)
+     * 커밋된 이후에 대기자에게 완료를 알리고, 롤백되면 대기자를 원래 자리로 되돌림
+     * @param id        상품재고 아이디
+     * @param quantity  입고 수량
+     */
+    @Transactional
+    public void restock(Long id, Long quantity) {
+        StockTransactionEvent.track(Strategy.PESSIMISTIC, id);
+        redisPurchaseLimitRepository.evictStockAfterCommit(id);
+
+        Stock stock = findWithLock(id);
+        stock.increase(quantity);
+        backOrderWaitlist.fulfill(stock);
+        stockRepository.save(stock);
+    }
+
+    private Stock findWithLock(Long id) {
+        Stock stock = stockRepository.findByIdWithPessimisticLock(id);
+        if(stock == null) {
+            throw new NoSuchElementException("재고가 존재하지 않습니다. (아이디 : " + id + ")");
+        }
+        return stock;
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.stock.service;
+
+import com.example.stock.repository.StockRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 상품 아이디 > 상품재고 아이디 변환
+ * 상품재고 아이디는 생성 후 바뀌지 않으므로 한 번 조회한 결과를 메모리에 보관하여 이후 요청은 조회 없이 변환
+ * 분산 락 키처럼 상품재고 아이디 기준으로 동작하는 경로를 상품 아이디로 호출할 때 사용
+ */
+@Component
+public class StockIdResolver {
+
+    // 상품재고 CRUD 를 위한 변수 선언
+    private final StockRepository stockRepository;
+
+    // 상품 아이디 > 상품재고 아이디
+    private final ConcurrentMap<Long, Long> stockIds = new ConcurrentHashMap<>();
+
+    public StockIdResolver(StockRepository stockRepository) {
+        this.stockRepository = stockRepository;
+    }
+
+    // 상품재고 아이디 조회 (캐시에 없으면 DB 조회 후 저장)
+    public Long resolve(Long productId) {
+        Long stockId = stockIds.get(productId);
+        if(stockId != null) {
+            return stockId;
+        }
+
+        stockId = stockRepository.findIdByProductId(productId)
+                .orElseThrow(() -> new NoSuchElementException("상품의 재고가 존재하지 않습니다. (상품 아이디 : " + productId + ")"));
+        stockIds.put(productId, stockId);
+        return stockId;
+    }
+
+    // 다른 경로에서 이미 알게 된 매핑 저장
+    public void remember(Long productId, Long stockId) {
+        stockIds.put(productId, stockId);
+    }
+
+    public void evict(Long productId) {
+        stockIds.remove(productId);
+    }
+
+    /**
+     * 상품재고 아이디로 변환 후 작업 수행
+     * 캐시된 상품재고가 삭제 후 다시 생성되어 아이디가 바뀐 경우 한 번만 다시 조회하여 재시도
+     * @param productId 상품 아이디
+     * @param task      상품재고 아이디로 수행할 작업
+     */
+    public <E extends Exception> void execute(Long productId, StockIdTask<E> task) throws E {
+        Long stockId = resolve(productId);
+        try {
+            task.run(stockId);
+        } catch (NoSuchElementException e) {
+            evict(productId);
+            Long current = resolve(productId);
+            if(current.equals(stockId)) {
+                throw e;
+            }
+            task.run(current);
+        }
+    }
+
+    @FunctionalInterface
+    public interface StockIdTask<E extends Exception> {
+        void run(Long stockId) throws E;
+    }
+}
@@ -0,0 +1,297 @@
+package com.example.stock.service;
+
+import com.example.stock.domain.Stock;
+import com.example.stock.exception.StockImportException;
+import com.example.stock.repository.RedisPurchaseLimitRepository;
+import com.example.stock.repository.StockRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품재고 일괄 적재 / 입고 서비스 로직
+ *  . 입력 (CSV / JSON Lines) 을 한 줄씩 읽어 commitSize 단위로 묶어 처리하므로 전체 입력을 메모리에 올리지 않음
+ *  . 묶음마다 별도 트랜잭션에서 JDBC 배치 upsert (IDENTITY 키라 JPA 배치 insert 가 동작하지 않으므로 JDBC 사용)
+ *    트랜잭션이 짧아 적재 중에도 실시간 재고 감소가 오래 기다리지 않음
+ *  . 입고 대기자가 있는 재고는 같은 트랜잭션 안에서 대기자를 먼저 처리 (BackOrderWaitlist.fulfill)
+ *  . 커밋 후 Redis 재고와 상품재고 아이디 캐시에 묶음 단위로 반영 (Redis 는 파이프라인 한 번)
+ *    Redis 반영에 실패해도 묶음은 이미 커밋되었으므로 적재를 계속하고, 해당 재고의 Redis 값을 삭제한 뒤 결과에 반영 실패 묶음 수로 전달
+ * 이미 커밋된 묶음은 되돌리지 않으며, 실패 시 커밋된 행 수를 StockImportException 으로 전달
+ * (커밋된 행 수는 트랜잭션 커밋 직후에 세므로 다시 적재할 때 이미 반영된 묶음을 중복 반영하지 않음)
+ */
+@Service
+public class StockImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(StockImportService.class);
+
+    // 입력 형식
+    public enum Format {
+        CSV,    // productId,quantity (첫 줄이 숫자가 아니면 헤더로 보고 건너뜀)
+        JSONL   // {"productId":1,"quantity":100}
+    }
+
+    // 적재 방식
+    public enum Mode {
+        REPLACE,    // 수량을 입력 값으로 덮어쓰기 (없으면 생성)
+        RESTOCK     // 기존 수량에 입력 값을 더하기 (없으면 생성)
+    }
+
+    // 입력 한 줄
+    public record Row(Long productId, Long quantity) {
+    }
+
+    /**
+     * 적재 결과
+     * @param rows              커밋된 행 수
+     * @param chunks            커밋된 묶음 수
+     * @param unpublishedChunks 커밋 후 Redis 반영에 실패한 묶음 수 (해당 재고는 Redis 값을 삭제하여 다음 구매 시 DB 에서 다시 읽음)
+     * @param elapsedMillis     소요 시간
+     */
+    public record Result(long rows, int chunks, int unpublishedChunks, long elapsedMillis) {
+    }
+
+    // 입력 값은 행 별칭 (new) 으로 참조 (VALUES() 함수는 MySQL 8.0.20 부터 deprecated)
+    private static final String UPSERT_REPLACE =
+            "insert into stock (product_id, quantity, version) values (?, ?, 0) as new " +
+            "on duplicate key update quantity = new.quantity, version = stock.version + 1";
+
+    private static final String UPSERT_RESTOCK =
+            "insert into stock (product_id, quantity, version) values (?, ?, 0) as new " +
+            "on duplicate key update quantity = stock.quantity + new.quantity, version = stock.version + 1";
+
+    private static final String SELECT_BY_PRODUCT_IDS = "select id, product_id, quantity from stock where product_id in (%s)";
+
+    // SQL 실행을 위한 템플릿 변수 선언
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    // Redis 재고 저장소
+    private final RedisPurchaseLimitRepository redisPurchaseLimitRepository;
+
+    // 상품 아이디 > 상품재고 아이디 캐시
+    private final StockIdResolver stockIdResolver;
+
+    // 상품재고 CRUD 를 위한 변수 선언 (입고 대기자 처리용)
+    private final StockRepository stockRepository;
+
+    // 입고 대기열
+    private final BackOrderWaitlist backOrderWaitlist;
+
+    // JSON Lines 파싱
+    private final ObjectMapper objectMapper;
+
+    // 한 트랜잭션에서 처리할 행 수
+    private final int commitSize;
+
+    // JDBC 배치 한 번에 보낼 행 수 (rewriteBatchedStatements 설정 시 multi-row insert 한 문장으로 전송)
+    private final int batchSize;
+
+    // Redis 에 올린 재고의 보관 시간 (PurchaseLimitService 와 동일)
+    private final Duration stockCacheTtl;
+
+    public StockImportService(JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              RedisPurchaseLimitRepository redisPurchaseLimitRepository,
+                              StockIdResolver stockIdResolver,
+                              StockRepository stockRepository,
+                              BackOrderWaitlist backOrderWaitlist,
+                              ObjectMapper objectMapper,
+                              @Value("${stock.import.commit-size:5000}") int commitSize,
+                              @Value("${stock.import.batch-size:1000}") int batchSize,
+                              @Value("${stock.purchase-limit.stock-cache-ttl:30s}") Duration stockCacheTtl) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.redisPurchaseLimitRepository = redisPurchaseLimitRepository;
+        this.stockIdResolver = stockIdResolver;
+        this.stockRepository = stockRepository;
+        this.backOrderWaitlist = backOrderWaitlist;
+        this.objectMapper = objectMapper;
+        this.commitSize = commitSize;
+        this.batchSize = batchSize;
+        this.stockCacheTtl = stockCacheTtl;
+    }
+
+    /**
+     * 상품재고 일괄 적재
+     * @param input     입력 (호출자가 닫음)
+     * @param format    입력 형식
+     * @param mode      적재 방식
+     */
+    public Result importStocks(InputStream input, Format format, Mode mode) {
+        long started = System.nanoTime();
+        long rows = 0;
+        int chunks = 0;
+        int unpublishedChunks = 0;
+
+        try {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+            List<Row> chunk = new ArrayList<>(commitSize);
+            long lineNumber = 0;
+            String line;
+
+            while((line = reader.readLine()) != null) {
+                Row row = parse(line, ++lineNumber, format);
+                if(row == null) {
+                    continue;
+                }
+
+                chunk.add(row);
+                if(chunk.size() == commitSize) {
+                    List<long[]> stocks = commitChunk(chunk, mode);
+                    rows += chunk.size();
+                    chunks++;
+                    if(!publishChunk(chunk, mode, stocks)) {
+                        unpublishedChunks++;
+                    }
+                    chunk.clear();
+                }
+            }
+
+            if(!chunk.isEmpty()) {
+                List<long[]> stocks = commitChunk(chunk, mode);
+                rows += chunk.size();
+                chunks++;
+                if(!publishChunk(chunk, mode, stocks)) {
+                    unpublishedChunks++;
+                }
+            }
+        } catch(IOException | RuntimeException e) {
+            throw new StockImportException(rows, e);
+        }
+
+        return new Result(rows, chunks, unpublishedChunks, Duration.ofNanos(System.nanoTime() - started).toMillis());
+    }
+
+    // 한 줄 파싱 (빈 줄 / 헤더는 null)
+    private Row parse(String line, long lineNumber, Format format) {
+        if(line.isBlank()) {
+            return null;
+        }
+
+        Row row;
+        if(format == Format.CSV) {
+            String[] fields = line.split(",", -1);
+            if(fields.length != 2) {
+                throw new IllegalArgumentException(lineNumber + " 번째 줄 형식이 올바르지 않습니다. (productId,quantity)");
+            }
+            if(lineNumber == 1 && !isNumber(fields[0].trim())) {
+                return null;
+            }
+            try {
+                row = new Row(Long.parseLong(fields[0].trim()), Long.parseLong(fields[1].trim()));
+            } catch(NumberFormatException e) {
+                throw new IllegalArgumentException(lineNumber + " 번째 줄에 숫자가 아닌 값이 있습니다.", e);
+            }
+        } else {
+            try {
+                row = objectMapper.readValue(line, Row.class);
+            } catch(JsonProcessingException e) {
+                throw new IllegalArgumentException(lineNumber + " 번째 줄 JSON 형식이 올바르지 않습니다.", e);
+            }
+        }
+
+        if(row.productId() == null || row.quantity() == null || row.quantity() < 0) {
+            throw new IllegalArgumentException(lineNumber + " 번째 줄에 상품 아이디 / 0 이상의 수량이 필요합니다.");
+        }
+        return row;
+    }
+
+    // 한 묶음을 한 트랜잭션으로 반영 후 (id, product_id, quantity, 입고 대기자에게 돌아간 수량) 반환
+    private List<long[]> commitChunk(List<Row> chunk, Mode mode) {
+        // 동시에 실행되는 다른 적재와 같은 순서로 행 Lock 을 잡도록 상품 아이디 순으로 정렬 (교착 상태 방지)
+        chunk.sort(Comparator.comparing(Row::productId));
+
+        return transactionTemplate.execute(status -> {
+            jdbcTemplate.batchUpdate(mode == Mode.REPLACE ? UPSERT_REPLACE : UPSERT_RESTOCK, chunk, batchSize, (ps, row) -> {
+                ps.setLong(1, row.productId());
+                ps.setLong(2, row.quantity());
+            });
+
+            // upsert 로 잡은 행 Lock 을 유지한 채 입고 대기자 처리
+            List<long[]> found = findStocks(chunk);
+            for(long[] stock : found) {
+                if(backOrderWaitlist.hasWaiters(stock[0])) {
+                    stock[3] = fulfillWaiters(stock[0]);
+                    stock[2] -= stock[3];
+                }
+            }
+            return found;
+        });
+    }
+
+    /*
+     * 커밋된 묶음을 상품재고 아이디 캐시 / Redis 에 반영
+     * Redis 반영에 실패하면 이미 커밋된 묶음이 실패한 것처럼 보이지 않도록 예외를 전달하지 않고,
+     * 오래된 값이 남지 않도록 해당 재고의 Redis 값을 삭제한 뒤 false 반환
+     */
+    private boolean publishChunk(List<Row> chunk, Mode mode, List<long[]> stocks) {
+        Map<Long, Long> stockIds = new HashMap<>();
+        Map<Long, Long> quantities = new HashMap<>();
+        Map<Long, Long> fulfilled = new HashMap<>();
+        for(long[] stock : stocks) {
+            stockIdResolver.remember(stock[1], stock[0]);
+            stockIds.put(stock[1], stock[0]);
+            quantities.put(stock[0], stock[2]);
+            fulfilled.put(stock[0], stock[3]);
+        }
+
+        try {
+            if(mode == Mode.REPLACE) {
+                redisPurchaseLimitRepository.publishStocks(quantities, stockCacheTtl);
+                return true;
+            }
+
+            // 입고는 Redis 에서 진행 중인 차감을 덮어쓰지 않도록 증가분 (대기자에게 돌아간 수량 제외) 만 반영
+            Map<Long, Long> increases = new HashMap<>();
+            for(Row row : chunk) {
+                increases.merge(stockIds.get(row.productId()), row.quantity(), Long::sum);
+            }
+            fulfilled.forEach((stockId, quantity) -> increases.merge(stockId, -quantity, Long::sum));
+            redisPurchaseLimitRepository.increaseLoadedStocks(increases);
+            return true;
+        } catch(RuntimeException e) {
+            log.warn("일괄 적재 Redis 반영 실패 (커밋된 묶음의 재고 {} 건은 Redis 값을 삭제)", quantities.size(), e);
+            quantities.keySet().forEach(redisPurchaseLimitRepository::evictStockAfterCommit);
+            return false;
+        }
+    }
+
+    // 입고 대기자 처리 후 대기자에게 돌아간 수량 반환
+    private long fulfillWaiters(Long stockId) {
+        Stock stock = stockRepository.findByIdWithPessimisticLock(stockId);
+        long before = stock.getQuantity();
+        backOrderWaitlist.fulfill(stock);
+        stockRepository.saveAndFlush(stock);
+        return before - stock.getQuantity();
+    }
+
+    private List<long[]> findStocks(List<Row> chunk) {
+        List<Long> productIds = chunk.stream().map(Row::productId).distinct().toList();
+        String sql = String.format(SELECT_BY_PRODUCT_IDS, String.join(",", Collections.nCopies(productIds.size(), "?")));
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2), rs.getLong(3), 0}, productIds.toArray());
+    }
+
+    private boolean isNumber(String value) {
+        return !value.isEmpty() && value.chars().allMatch(Character::isDigit);
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.stock.service;
+
+import com.example.stock.domain.StockAvailability;
+import com.example.stock.repository.StockRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 상품재고 조회 전용 서비스 로직
+ * 목록 화면처럼 많은 상품의 재고를 한 번에 보여줄 때 사용하며
+ * 엔티티 대신 프로젝션으로 조회하므로 재고 감소 로직의 영속성 컨텍스트와 경쟁하지 않음
+ */
+@Service
+public class StockQueryService {
+
+    // IN 절 하나에 담을 최대 아이디 개수
+    static final int BATCH_SIZE = 500;
+
+    // 상품재고 인터페이스 변수 선언
+    private final StockRepository stockRepository;
+
+    // 상품 아이디 > 상품재고 아이디 변환 캐시
+    private final StockIdResolver stockIdResolver;
+
+    public StockQueryService(StockRepository stockRepository, StockIdResolver stockIdResolver) {
+        this.stockRepository = stockRepository;
+        this.stockIdResolver = stockIdResolver;
+    }
+
+    /**
+     * 여러 상품재고의 가용 수량 조회
+     * 배치마다 가장 최근에 커밋된 값을 읽음
+     * @param ids   상품재고 아이디 목록
+     */
+    @Transactional(readOnly = true, isolation = Isolation.READ_COMMITTED)
+    public List<StockAvailability> findAvailabilities(List<Long> ids) {
+        return findInBatches(ids, stockRepository::findAvailabilitiesByIdIn);
+    }
+
+    /**
+     * 여러 상품의 가용 수량을 상품 아이디로 조회
+     * 조회 결과로 알게 된 상품 아이디 > 상품재고 아이디 매핑은 재고 감소 경로에서 재사용
+     * @param productIds    상품 아이디 목록
+     */
+    @Transactional(readOnly = true, isolation = Isolation.READ_COMMITTED)
+    public List<StockAvailability> findAvailabilitiesByProductIds(List<Long> productIds) {
+        List<StockAvailability> availabilities = findInBatches(productIds, stockRepository::findAvailabilitiesByProductIdIn);
+        availabilities.forEach(availability -> stockIdResolver.remember(availability.productId(), availability.stockId()));
+        return availabilities;
+    }
+
+    /**
+     * 여러 상품재고의 가용 수량 조회 (단일 스냅샷)
+     * 하나의 REPEATABLE READ 트랜잭션 안에서 모든 배치를 조회하므로 같은 시점의 재고를 보장
+     * @param ids   상품재고 아이디 목록
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public List<StockAvailability> findAvailabilitiesFromSnapshot(List<Long> ids) {
+        return findInBatches(ids, stockRepository::findAvailabilitiesByIdIn);
+    }
+
+    // 아이디 목록을 BATCH_SIZE 단위로 나누어 IN 쿼리 수행
+    private List<StockAvailability> findInBatches(List<Long> ids, Function<List<Long>, List<StockAvailability>> query) {
+        List<Long> distinctIds = ids.stream().distinct().toList();
+        List<StockAvailability> availabilities = new ArrayList<>(distinctIds.size());
+
+        for(int from = 0; from < distinctIds.size(); from += BATCH_SIZE) {
+            List<Long> batch = distinctIds.subList(from, Math.min(from + BATCH_SIZE, distinctIds.size()));
+            availabilities.addAll(query.apply(batch));
+        }
+
+        return availabilities;
+    }
+}
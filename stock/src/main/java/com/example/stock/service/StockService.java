@@ -1,6 +1,13 @@
 package com.example.stock.service;
 
 import com.example.stock.domain.Stock;
+import com.example.stock.event.SoldOutEvent;
+import com.example.stock.event.StockTransactionEvent;
+import com.example.stock.event.Strategy;
+import com.example.stock.exception.OutOfStockException;
+import com.example.stock.exception.StaleFencingTokenException;
+import com.example.stock.repository.ProcessedRequestRepository;
+import com.example.stock.repository.RedisPurchaseLimitRepository;
 import com.example.stock.repository.StockRepository;
 import jakarta.transaction.Transactional;
 import org.springframework.stereotype.Service;
@@ -15,8 +22,21 @@ public class StockService {
     // 상품재고 인터페이스 변수 선언
     private final StockRepository stockRepository;
 
-    public StockService(StockRepository stockRepository) {
+    // 처리 완료된 요청 (멱등성 키) 저장소
+    private final ProcessedRequestRepository processedRequestRepository;
+
+    // 입고 대기열 (대기자가 있으면 감소 거절, 증가 시 대기자 먼저 처리)
+    private final BackOrderWaitlist backOrderWaitlist;
+
+    // Redis 에 올라간 재고 (DB 재고 변경 후 삭제)
+    private final RedisPurchaseLimitRepository redisPurchaseLimitRepository;
+
+    public StockService(StockRepository stockRepository, ProcessedRequestRepository processedRequestRepository,
+                        BackOrderWaitlist backOrderWaitlist, RedisPurchaseLimitRepository redisPurchaseLimitRepository) {
         this.stockRepository = stockRepository;
+        this.processedRequestRepository = processedRequestRepository;
+        this.backOrderWaitlist = backOrderWaitlist;
+        this.redisPurchaseLimitRepository = redisPurchaseLimitRepository;
     }
 
     /**
@@ -26,12 +46,76 @@ public class StockService {
      */
     @Transactional
     public void decrease(Long id, Long quantity) {
+        StockTransactionEvent.track(Strategy.NONE, id);
+        redisPurchaseLimitRepository.evictStockAfterCommit(id);
+        backOrderWaitlist.rejectIfQueued(id, quantity);
+
         // 재고 조회 > 재고 감소 > 갱신된 값 저장
         Stock stock = stockRepository.findById(id).orElseThrow();
         stock.decrease(quantity);
         stockRepository.saveAndFlush(stock);
     }
 
+    /**
+     * 상품재고 감소 메소드 1 (상품 아이디 사용)
+     * @param productId 상품 아이디
+     * @param quantity  상품 수량
+     */
+    @Transactional
+    public void decreaseByProductId(Long productId, Long quantity) {
+        // 재고 조회 > 재고 감소 > 갱신된 값 저장
+        Stock stock = stockRepository.findByProductId(productId).orElseThrow();
+        StockTransactionEvent.track(Strategy.NONE, stock.getId());
+        redisPurchaseLimitRepository.evictStockAfterCommit(stock.getId());
+        backOrderWaitlist.rejectIfQueued(stock.getId(), quantity);
+        stock.decrease(quantity);
+        stockRepository.saveAndFlush(stock);
+    }
+
+    /**
+     * 상품재고 감소 메소드 1 (펜싱 토큰 사용)
+     * Redis 분산 락의 만료 시간이 지난 뒤 늦게 도착한 쓰기를 막기 위해 마지막으로 반영된 토큰보다 큰 토큰인 경우에만 조건부 UPDATE 로 반영
+     * @param strategy  토큰을 발급한 분산 락 전략 (JFR 이벤트 기록용)
+     * @param id        상품 아이디
+     * @param quantity  상품 수량
+     * @param token     Lock 획득 시 발급받은 펜싱 토큰
+     */
+    @Transactional
+    public void decreaseWithFencingToken(Strategy strategy, Long id, Long quantity, Long token) {
+        Stock.checkDecreaseQuantity(quantity);
+        StockTransactionEvent.track(strategy, id);
+        redisPurchaseLimitRepository.evictStockAfterCommit(id);
+        backOrderWaitlist.rejectIfQueued(id, quantity);
+
+        if(stockRepository.decreaseWithFencingToken(id, quantity, token) == 1) {
+            return;
+        }
+
+        // 반영되지 않은 경우 원인 (만료된 토큰 / 재고 부족) 확인
+        Stock stock = stockRepository.findById(id).orElseThrow();
+        if(stock.getFencingToken() != null && stock.getFencingToken() >= token) {
+            throw new StaleFencingTokenException(id, token, stock.getFencingToken());
+        }
+        SoldOutEvent.record(id, stock.getProductId(), quantity, stock.getQuantity());
+        throw new OutOfStockException();
+    }
+
+    /**
+     * 상품재고 감소 메소드 1 (펜싱 토큰, 멱등성 키 사용)
+     * 키 저장과 재고 감소를 한 트랜잭션으로 처리하여 키가 저장되어 있으면 재고 감소도 반영되었음을 보장
+     * 같은 키가 이미 있으면 DataIntegrityViolationException 발생
+     * @param requestKey    멱등성 키
+     * @param strategy      토큰을 발급한 분산 락 전략 (JFR 이벤트 기록용)
+     * @param id            상품 아이디
+     * @param quantity      상품 수량
+     * @param token         Lock 획득 시 발급받은 펜싱 토큰
+     */
+    @Transactional
+    public void decreaseWithFencingToken(String requestKey, Strategy strategy, Long id, Long quantity, Long token) {
+        processedRequestRepository.insert(requestKey, id, quantity);
+        decreaseWithFencingToken(strategy, id, quantity, token);
+    }
+
     /**
      * 상품재고 감소 메소드 2
      * 자바의 Synchronized 를 활용하여 스레드 작업을 제어하도록 설정
@@ -40,6 +124,10 @@ public class StockService {
      */
     @Transactional
     public synchronized void decreaseUsingSynchronized(Long id, Long quantity) {
+        StockTransactionEvent.track(Strategy.SYNCHRONIZED, id);
+        redisPurchaseLimitRepository.evictStockAfterCommit(id);
+        backOrderWaitlist.rejectIfQueued(id, quantity);
+
         // 재고 조회 > 재고 감소 > 갱신된 값 저장
         Stock stock = stockRepository.findById(id).orElseThrow();
         stock.decrease(quantity);
@@ -55,10 +143,88 @@ public class StockService {
      */
     @org.springframework.transaction.annotation.Transactional(propagation = Propagation.REQUIRES_NEW)
     public void decreaseUsingNamedLock(Long id, Long quantity) {
+        StockTransactionEvent.track(Strategy.NAMED, id);
+        redisPurchaseLimitRepository.evictStockAfterCommit(id);
+        backOrderWaitlist.rejectIfQueued(id, quantity);
+
         // 재고 조회 > 재고 감소 > 갱신된 값 저장
         Stock stock = stockRepository.findById(id).orElseThrow();
         stock.decrease(quantity);
         stockRepository.saveAndFlush(stock);
     }
 
+    /**
+     * 상품재고 감소 메소드 3 (멱등성 키 사용)
+     * 네임드 락 (Named Lock) 사용 시 키 저장과 재고 감소를 한 트랜잭션으로 처리
+     * @param requestKey    멱등성 키
+     * @param id            상품 아이디
+     * @param quantity      상품 수량
+     */
+    @org.springframework.transaction.annotation.Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void decreaseUsingNamedLock(String requestKey, Long id, Long quantity) {
+        processedRequestRepository.insert(requestKey, id, quantity);
+        decreaseUsingNamedLock(id, quantity);
+    }
+
+    /**
+     * 상품재고 증가 (입고) 메소드 1
+     * @param id        상품 아이디
+     * @param quantity  입고 수량
+     */
+    @Transactional
+    public void increase(Long id, Long quantity) {
+        StockTransactionEvent.track(Strategy.NONE, id);
+        redisPurchaseLimitRepository.evictStockAfterCommit(id);
+
+        // 재고 조회 > 재고 증가 > 입고 대기자 처리 > 갱신된 값 저장
+        Stock stock = stockRepository.findById(id).orElseThrow();
+        stock.increase(quantity);
+        backOrderWaitlist.fulfill(stock);
+        stockRepository.saveAndFlush(stock);
+    }
+
+    /**
+     * 상품재고 증가 (입고) 메소드 1 (펜싱 토큰 사용)
+     * 감소와 마찬가지로 Lock 만료 후 늦게 도착한 입고가 다음 Lock 보유자의 쓰기 사이에 끼어들지 않도록 조건부 UPDATE 로 반영
+     * 반영 후 같은 트랜잭션 안에서 입고 대기자 처리 (UPDATE 로 잡은 행 Lock 을 커밋까지 유지)
+     * @param strategy  토큰을 발급한 분산 락 전략 (JFR 이벤트 기록용)
+     * @param id        상품 아이디
+     * @param quantity  입고 수량
+     * @param token     Lock 획득 시 발급받은 펜싱 토큰
+     */
+    @Transactional
+    public void increaseWithFencingToken(Strategy strategy, Long id, Long quantity, Long token) {
+        StockTransactionEvent.track(strategy, id);
+        redisPurchaseLimitRepository.evictStockAfterCommit(id);
+
+        if(stockRepository.increaseWithFencingToken(id, quantity, token) == 0) {
+            // 반영되지 않은 경우 원인 (없는 재고 / 만료된 토큰) 확인
+            Stock stock = stockRepository.findById(id).orElseThrow();
+            throw new StaleFencingTokenException(id, token, stock.getFencingToken());
+        }
+
+        Stock stock = stockRepository.findById(id).orElseThrow();
+        backOrderWaitlist.fulfill(stock);
+        stockRepository.saveAndFlush(stock);
+    }
+
+    /**
+     * 상품재고 증가 (입고) 메소드 2
+     * 네임드 락 (Named Lock) 을 활용하여 동시성 제어
+     * 부모의 트랜젝션과 별도로 실행 되어야 하므로 Propagation 변경
+     * @param id        상품 아이디
+     * @param quantity  입고 수량
+     */
+    @org.springframework.transaction.annotation.Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void increaseUsingNamedLock(Long id, Long quantity) {
+        StockTransactionEvent.track(Strategy.NAMED, id);
+        redisPurchaseLimitRepository.evictStockAfterCommit(id);
+
+        // 재고 조회 > 재고 증가 > 입고 대기자 처리 > 갱신된 값 저장
+        Stock stock = stockRepository.findById(id).orElseThrow();
+        stock.increase(quantity);
+        backOrderWaitlist.fulfill(stock);
+        stockRepository.saveAndFlush(stock);
+    }
+
 }
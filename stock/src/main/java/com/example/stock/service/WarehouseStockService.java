@@ -0,0 +1,72 @@
+package com.example.stock.service;
+
+import com.example.stock.allocation.Allocation;
+import com.example.stock.domain.WarehouseStock;
+import com.example.stock.exception.OutOfStockException;
+import com.example.stock.exception.StockBusyException;
+import com.example.stock.repository.WarehouseStockRepository;
+import jakarta.transaction.Transactional;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 창고별 상품재고 서비스 로직
+ */
+@Service
+public class WarehouseStockService {
+
+    // 창고별 상품재고 CRUD 를 위한 변수 선언
+    private final WarehouseStockRepository warehouseStockRepository;
+
+    public WarehouseStockService(WarehouseStockRepository warehouseStockRepository) {
+        this.warehouseStockRepository = warehouseStockRepository;
+    }
+
+    /**
+     * 할당 결과 반영
+     * 선택된 창고마다 조건부 업데이트 한 번으로 차감하며 상품 단위의 Lock 은 잡지 않음
+     * 조회 이후 다른 요청이 먼저 재고를 가져간 경우 전체 할당을 롤백
+     * @param allocations   할당 결과
+     */
+    @Transactional
+    public void commit(List<Allocation> allocations) {
+        // 여러 창고를 갱신할 때 데드락을 피하기 위해 항상 같은 순서로 업데이트
+        List<Allocation> ordered = allocations.stream()
+                .sorted(Comparator.comparing(Allocation::warehouseStockId))
+                .toList();
+
+        for(Allocation allocation : ordered) {
+            if(warehouseStockRepository.decreaseIfAvailable(allocation.warehouseStockId(), allocation.quantity()) == 0) {
+                throw new OptimisticLockingFailureException("창고 재고가 변경되어 할당에 실패했습니다. warehouseStockId=" + allocation.warehouseStockId());
+            }
+        }
+    }
+
+    /**
+     * 다른 요청이 점유하지 않은 창고 재고 하나에서 차감 (select ... for update skip locked)
+     * 같은 상품의 창고 재고 행이 여러 개면 Lock 대기 없이 비어 있는 행을 골라 처리하므로 요청이 한 행에 줄 서지 않음
+     * @param productId 상품 아이디
+     * @param quantity  차감 수량
+     * @return          차감한 창고
+     */
+    @Transactional
+    public Allocation decreaseFromAnyFreeWarehouse(Long productId, Long quantity) {
+        WarehouseStock warehouseStock = warehouseStockRepository
+                .findFirstByProductIdAndQuantityGreaterThanEqualOrderByIdAsc(productId, quantity)
+                .orElse(null);
+
+        // 비어 있는 행이 없는 경우 모두 점유 중인지 재고가 없는지 구분
+        if(warehouseStock == null) {
+            if(warehouseStockRepository.existsByProductIdAndQuantityGreaterThanEqual(productId, quantity)) {
+                throw new StockBusyException("모든 창고 재고를 다른 요청이 사용 중입니다. 잠시 후 다시 시도해 주세요. (상품 아이디 : " + productId + ")");
+            }
+            throw new OutOfStockException("할당 가능한 창고 재고가 부족합니다.");
+        }
+
+        warehouseStock.decrease(quantity);
+        return new Allocation(warehouseStock.getId(), warehouseStock.getWarehouseId(), quantity);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.stock.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 읽기 / 쓰기 DataSource 라우팅 테스트 클래스 (DB 연결 없이 라우팅 규칙만 확인)
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private final ReplicaDataSources replicas = new ReplicaDataSources(List.of(new HikariDataSource()), Duration.ofSeconds(2));
+
+    private final ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(new HikariDataSource(), replicas);
+
+    @AfterEach
+    public void after() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        replicas.close();
+    }
+
+    /**
+     * Test 9-1) 쓰기 트랜잭션 (혹은 트랜잭션 밖) 은 항상 primary, 읽기 전용 트랜잭션이라도 사용 가능한 replica 가 없으면 primary
+     */
+    @Test
+    public void routesToPrimaryUnlessReadOnlyWithHealthyReplicaTest() {
+        assertEquals(ReadWriteRoutingDataSource.PRIMARY, routingDataSource.determineCurrentLookupKey());
+
+        // 복제 지연 확인 전 (사용 가능한 replica 없음)
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertEquals(ReadWriteRoutingDataSource.PRIMARY, routingDataSource.determineCurrentLookupKey());
+    }
+
+    /**
+     * Test 9-2) 복제 지연이 허용 범위 이내인 경우에만 replica 사용
+     */
+    @Test
+    public void replicaLagThresholdTest() {
+        assertTrue(ReplicaDataSources.isWithinLag(List.of(Map.of("Seconds_Behind_Source", 1L)), 2));
+        assertFalse(ReplicaDataSources.isWithinLag(List.of(Map.of("Seconds_Behind_Source", 5L)), 2));
+
+        // 복제가 멈춘 경우 (NULL) 와 복제본이 아닌 경우 (빈 결과)
+        Map<String, Object> stopped = new HashMap<>();
+        stopped.put("Seconds_Behind_Source", null);
+        assertFalse(ReplicaDataSources.isWithinLag(List.of(stopped), 2));
+        assertFalse(ReplicaDataSources.isWithinLag(List.of(), 2));
+    }
+}
@@ -1,6 +1,11 @@
 package com.example.stock.facade;
 
+import com.example.stock.deadline.Deadline;
+import com.example.stock.deadline.DeadlineContext;
 import com.example.stock.domain.Stock;
+import com.example.stock.event.Strategy;
+import com.example.stock.exception.DeadlineExceededException;
+import com.example.stock.exception.StaleFencingTokenException;
 import com.example.stock.repository.LockRepository;
 import com.example.stock.repository.RedisLockRepository;
 import com.example.stock.repository.StockRepository;
@@ -12,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.time.Duration;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -30,6 +36,12 @@ class LettuceLockStockFacadeTest {
     @Autowired
     private StockRepository stockRepository;    // 상품재고 엔티티 CRUD 인터페이스
 
+    @Autowired
+    private RedisLockRepository redisLockRepository;    // Redis Lock 및 펜싱 토큰 발급
+
+    @Autowired
+    private StockService stockService;          // 상품재고 서비스 로직
+
     /**
      * 테스트를 하기 위해서는 재고가 존재해야 하므로 @BeforeEach 어노테이션을 사용해
      * 테스트가 실행 되기 전에 데이터 생성 (상품아이디 1 , 재고 100)
@@ -90,4 +102,67 @@ class LettuceLockStockFacadeTest {
         // 실제 데이터 확인 (왼쪽 파라미터 : 기대값 0 / 오른쪽 파라미터 : 실제값 ??)
         assertEquals(0, stock.getQuantity());
     }
-}
\ No newline at end of file
+
+    /**
+     * Test 2-3-1-2) Lock 만료 후 늦게 도착한 쓰기가 펜싱 토큰으로 거절되는지 확인
+     * - 클라이언트 1 이 토큰을 발급받은 뒤 (GC 멈춤 등으로) Lock 이 만료되고, 그 사이 클라이언트 2 가 Lock 을 획득해 재고를 감소시킨 상황
+     * - 뒤늦게 도착한 클라이언트 1 의 쓰기는 더 작은 토큰이므로 반영되지 않아야 함
+     */
+    @Test
+    public void staleFencingTokenIsRejectedAfterLockExpiryTest() throws InterruptedException {
+        Long stockId = stockRepository.findAll().get(0).getId();
+
+        // 클라이언트 1 Lock 획득 후 만료 (만료 시간을 기다리는 대신 Lock 키를 직접 삭제)
+        Long staleToken = redisLockRepository.lockWithFencingToken(stockId);
+        assertNotNull(staleToken);
+        redisLockRepository.unLock(stockId);
+
+        // 클라이언트 2 는 새 토큰으로 Lock 획득 후 재고 감소
+        lettuceLockStockFacade.decrease(stockId, 1L);
+
+        // 클라이언트 1 의 늦은 쓰기는 거절
+        assertThrows(StaleFencingTokenException.class, () -> stockService.decreaseWithFencingToken(Strategy.LETTUCE, stockId, 1L, staleToken));
+        assertEquals(99L, stockRepository.findById(stockId).orElseThrow().getQuantity());
+    }
+
+    /**
+     * Test 2-3-1-4) Lock 만료 후 늦게 도착한 입고 (재고 증가) 도 펜싱 토큰으로 거절되는지 확인
+     */
+    @Test
+    public void staleFencingTokenIsRejectedOnIncreaseTest() throws InterruptedException {
+        Long stockId = stockRepository.findAll().get(0).getId();
+
+        Long staleToken = redisLockRepository.lockWithFencingToken(stockId);
+        assertNotNull(staleToken);
+        redisLockRepository.unLock(stockId);
+
+        // 다른 클라이언트가 새 토큰으로 입고
+        lettuceLockStockFacade.increase(stockId, 5L);
+
+        assertThrows(StaleFencingTokenException.class, () -> stockService.increaseWithFencingToken(Strategy.LETTUCE, stockId, 5L, staleToken));
+        assertEquals(105L, stockRepository.findById(stockId).orElseThrow().getQuantity());
+    }
+
+    /**
+     * Test 2-3-1-3) 다른 요청이 Lock 을 점유 중일 때 요청 기한이 지나면 계속 재시도하지 않고 DeadlineExceededException 으로 포기하는지 확인
+     */
+    @Test
+    public void lockWaitGivesUpWhenDeadlineExpiresTest() {
+        Long stockId = stockRepository.findAll().get(0).getId();
+        Long holderToken = redisLockRepository.lockWithFencingToken(stockId);
+        assertNotNull(holderToken);
+
+        DeadlineContext.set(Deadline.after(Duration.ofMillis(300)));
+        long started = System.nanoTime();
+        try {
+            assertThrows(DeadlineExceededException.class, () -> lettuceLockStockFacade.decrease(stockId, 1L));
+        } finally {
+            DeadlineContext.clear();
+            redisLockRepository.unLock(stockId, holderToken);
+        }
+
+        // 기한 (300ms) + 재시도 간격 안에서 포기하고 재고는 그대로
+        assertTrue(Duration.ofNanos(System.nanoTime() - started).toMillis() < 1_000);
+        assertEquals(100L, stockRepository.findById(stockId).orElseThrow().getQuantity());
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.stock.facade;
 
+import com.example.stock.deadline.Deadline;
+import com.example.stock.deadline.DeadlineContext;
 import com.example.stock.domain.Stock;
 import com.example.stock.repository.StockRepository;
 import org.junit.jupiter.api.AfterEach;
@@ -7,10 +9,15 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -26,6 +33,12 @@ class NamedLockStockFacadeTest {
     @Autowired
     private StockRepository stockRepository;    // 상품재고 엔티티 CRUD 인터페이스
 
+    @Autowired
+    private PlatformTransactionManager transactionManager;  // 재고 행 Lock 을 점유하는 트랜잭션
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;          // 네임드 락 해제 여부 확인
+
     /**
      * 테스트를 하기 위해서는 재고가 존재해야 하므로 @BeforeEach 어노테이션을 사용해
      * 테스트가 실행 되기 전에 데이터 생성 (상품아이디 1 , 재고 100)
@@ -86,4 +99,49 @@ class NamedLockStockFacadeTest {
         // 실제 데이터 확인 (왼쪽 파라미터 : 기대값 0 / 오른쪽 파라미터 : 실제값 ??)
         assertEquals(0, stock.getQuantity());
     }
-}
\ No newline at end of file
+
+    /**
+     * Test 2-2-3-1) 네임드 락을 점유한 상태에서 요청 기한이 지나도 락이 해제되는지 확인
+     * - 다른 트랜잭션이 재고 행 Lock 을 점유하고 있어 재고 변경이 기한을 넘겨 실패하는 상황
+     * - 락이 해제되지 않으면 커넥션 풀로 돌아간 커넥션에 남아 다음 요청이 get_lock 에서 계속 실패하게 됨
+     */
+    @Test
+    public void namedLockReleasedAfterDeadlineExpiresTest() throws Exception {
+        Long stockId = stockRepository.findAll().get(0).getId();
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+        // 다른 트랜잭션이 재고 행 Lock 을 점유한 상태 유지
+        Future<?> holder = executorService.submit(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            stockRepository.findByIdWithPessimisticLock(stockId);
+            locked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        locked.await();
+
+        try {
+            DeadlineContext.set(Deadline.after(Duration.ofMillis(1_500)));
+            try {
+                assertThrows(RuntimeException.class, () -> namedLockStockFacade.decrease(stockId, 1L));
+            } finally {
+                DeadlineContext.clear();
+            }
+
+            // 기한이 지난 뒤에도 네임드 락은 해제되어 있어야 함
+            assertEquals(1L, jdbcTemplate.queryForObject("select is_free_lock(?)", Long.class, stockId.toString()));
+        } finally {
+            release.countDown();
+            holder.get();
+            executorService.shutdown();
+        }
+
+        // 점유가 끝난 뒤에는 정상 처리
+        namedLockStockFacade.decrease(stockId, 1L);
+        assertEquals(99L, stockRepository.findById(stockId).orElseThrow().getQuantity());
+    }
+}
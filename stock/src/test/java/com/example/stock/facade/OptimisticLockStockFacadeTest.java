@@ -1,6 +1,8 @@
 package com.example.stock.facade;
 
 import com.example.stock.domain.Stock;
+import com.example.stock.idempotency.DecreaseResult;
+import com.example.stock.repository.ProcessedRequestRepository;
 import com.example.stock.repository.StockRepository;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -8,6 +10,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.time.Duration;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -26,6 +30,9 @@ class OptimisticLockStockFacadeTest {
     @Autowired
     private StockRepository stockRepository;    // 상품재고 엔티티 CRUD 인터페이스
 
+    @Autowired
+    private ProcessedRequestRepository processedRequestRepository;  // 처리 완료된 요청 (멱등성 키) 저장소
+
     /**
      * 테스트를 하기 위해서는 재고가 존재해야 하므로 @BeforeEach 어노테이션을 사용해
      * 테스트가 실행 되기 전에 데이터 생성 (상품아이디 1 , 재고 100)
@@ -41,6 +48,7 @@ class OptimisticLockStockFacadeTest {
     @AfterEach
     public void after() {
         stockRepository.deleteAll();
+        processedRequestRepository.deleteAll();
     }
 
     /**
@@ -87,4 +95,48 @@ class OptimisticLockStockFacadeTest {
         // 실제 데이터 확인 (왼쪽 파라미터 : 기대값 0 / 오른쪽 파라미터 : 실제값 ??)
         assertEquals(0, stock.getQuantity());
     }
-}
\ No newline at end of file
+
+    /**
+     * Test 2-2-2-1) 같은 멱등성 키로 여러 번 재시도해도 재고가 한 번만 감소하는지 확인
+     * - 10 개의 요청이 모두 같은 키를 사용하므로 한 건만 APPLIED, 나머지는 DUPLICATE
+     */
+    @Test
+    public void decreaseWithSameIdempotencyKeyAppliesOnceTest() throws InterruptedException {
+        Long stockId = stockRepository.findAll().get(0).getId();
+        int threadCount = 10;
+
+        ExecutorService executorService = Executors.newFixedThreadPool(10);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        ConcurrentLinkedQueue<DecreaseResult> results = new ConcurrentLinkedQueue<>();
+
+        for(int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    results.add(optimisticLockStockFacade.decrease("order-1", stockId, 1L));
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+
+        assertEquals(1, results.stream().filter(result -> result == DecreaseResult.APPLIED).count());
+        assertEquals(99L, stockRepository.findById(stockId).orElseThrow().getQuantity());
+    }
+
+    /**
+     * Test 2-2-2-2) 버전 충돌이 아닌 예외는 재시도하지 않고 바로 전달되는지 확인
+     * - 요청 기한이 없으면 잘못된 입고 수량 (0 개) 을 계속 재시도하며 멈추지 않았음
+     */
+    @Test
+    public void nonConflictFailureIsNotRetriedTest() {
+        Long stockId = stockRepository.findAll().get(0).getId();
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> assertThrows(IllegalArgumentException.class, () -> optimisticLockStockFacade.increase(stockId, 0L)));
+        assertEquals(100L, stockRepository.findById(stockId).orElseThrow().getQuantity());
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.stock.facade;
+
+import com.example.stock.deadline.Deadline;
+import com.example.stock.domain.Stock;
+import com.example.stock.exception.DeadlineExceededException;
+import com.example.stock.exception.OutOfStockException;
+import com.example.stock.repository.ReactiveRedisLockRepository;
+import com.example.stock.repository.StockRepository;
+import com.example.stock.service.ReactiveStockService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Reactive Redis + R2DBC 를 통한 논블로킹 재고 감소 테스트 클래스
+ */
+@SpringBootTest(properties = "stock.reactive.enabled=true")
+class ReactiveLockStockFacadeTest {
+
+    @Autowired
+    private ReactiveLockStockFacade reactiveLockStockFacade;    // Redis Lock + 펜싱 토큰 논블로킹 재고 감소
+
+    @Autowired
+    private ReactiveStockService reactiveStockService;          // 조건부 UPDATE 논블로킹 재고 감소
+
+    @Autowired
+    private ReactiveRedisLockRepository reactiveRedisLockRepository;    // Reactive Redis Lock 레포지토리
+
+    @Autowired
+    private StockRepository stockRepository;    // 상품재고 엔티티 CRUD 인터페이스
+
+    private Long stockId;
+
+    @BeforeEach
+    public void before() {
+        stockId = stockRepository.saveAndFlush(new Stock(1L, 100L)).getId();
+    }
+
+    @AfterEach
+    public void after() {
+        stockRepository.deleteAll();
+    }
+
+    /**
+     * Test 10-1) Redis Lock 을 논블로킹으로 대기하며 100 건을 동시에 요청해도 재고가 정확히 0 이 되는지 확인
+     * - 요청마다 스레드를 만들지 않고 한 번에 구독하므로 대기 중인 요청 수가 스레드 수에 묶이지 않음
+     */
+    @Test
+    public void decreaseConcurrentlyWithReactiveLockTest() {
+        Flux<Void> requests = Flux.range(0, 100)
+                .flatMap(i -> reactiveLockStockFacade.decrease(stockId, 1L), 100);
+
+        StepVerifier.create(requests)
+                .expectComplete()
+                .verify(Duration.ofSeconds(30));
+
+        assertEquals(0L, stockRepository.findById(stockId).orElseThrow().getQuantity());
+    }
+
+    /**
+     * Test 10-2) 조건부 UPDATE 로 재고보다 많은 요청이 들어오면 남은 요청은 OutOfStockException 으로 거절되는지 확인
+     */
+    @Test
+    public void decreaseBeyondStockIsRejectedTest() {
+        Flux<Boolean> requests = Flux.range(0, 110)
+                .flatMap(i -> reactiveStockService.decrease(stockId, 1L)
+                        .thenReturn(true)
+                        .onErrorResume(OutOfStockException.class, e -> Mono.just(false)), 110);
+
+        StepVerifier.create(requests.filter(succeeded -> !succeeded).count())
+                .expectNext(10L)
+                .expectComplete()
+                .verify(Duration.ofSeconds(30));
+
+        assertEquals(0L, stockRepository.findById(stockId).orElseThrow().getQuantity());
+    }
+
+    /**
+     * Test 10-3) Reactor Context 로 전달된 요청 기한이 지나면 lock-wait (10s) 까지 기다리지 않고 DeadlineExceededException 으로 실패하는지 확인
+     */
+    @Test
+    public void lockWaitIsBoundedByDeadlineInContextTest() {
+        Long token = reactiveRedisLockRepository.lockWithFencingToken(stockId).block();
+        assertNotNull(token);
+
+        try {
+            long start = System.currentTimeMillis();
+            StepVerifier.create(reactiveLockStockFacade.decrease(stockId, 1L)
+                            .contextWrite(context -> context.put(Deadline.class, Deadline.after(Duration.ofMillis(300)))))
+                    .expectError(DeadlineExceededException.class)
+                    .verify(Duration.ofSeconds(5));
+            long elapsed = System.currentTimeMillis() - start;
+
+            assertTrue(elapsed < 3_000, "기한 이내에서 Lock 대기를 멈춰야 함 (elapsed : " + elapsed + "ms)");
+            assertEquals(100L, stockRepository.findById(stockId).orElseThrow().getQuantity());
+        } finally {
+            reactiveRedisLockRepository.unLock(stockId, token).block();
+        }
+    }
+}
@@ -1,16 +1,21 @@
 package com.example.stock.facade;
 
 import com.example.stock.domain.Stock;
+import com.example.stock.event.Strategy;
+import com.example.stock.exception.StaleFencingTokenException;
 import com.example.stock.repository.StockRepository;
+import com.example.stock.service.StockService;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -26,6 +31,12 @@ class RedissonLockStockFacadeTest {
     @Autowired
     private StockRepository stockRepository;    // 상품재고 엔티티 CRUD 인터페이스
 
+    @Autowired
+    private RedissonClient redissonClient;      // Lease 가 만료된 이전 점유자 재현용
+
+    @Autowired
+    private StockService stockService;          // 늦게 도착한 쓰기 재현용
+
     /**
      * 테스트를 하기 위해서는 재고가 존재해야 하므로 @BeforeEach 어노테이션을 사용해
      * 테스트가 실행 되기 전에 데이터 생성 (상품아이디 1 , 재고 100)
@@ -85,4 +96,27 @@ class RedissonLockStockFacadeTest {
         // 실제 데이터 확인 (왼쪽 파라미터 : 기대값 0 / 오른쪽 파라미터 : 실제값 ??)
         assertEquals(0, stock.getQuantity());
     }
-}
\ No newline at end of file
+
+    /**
+     * Test 2-3-2-1) Lock 획득과 함께 발급된 펜싱 토큰으로 Lease 만료 후 늦게 도착한 쓰기가 거절되는지 확인
+     * - 이전 점유자의 Lease 가 만료된 뒤 새 점유자가 더 큰 토큰으로 반영하면 이전 점유자의 쓰기는 StaleFencingTokenException
+     */
+    @Test
+    public void staleFencingTokenIsRejectedAfterLeaseExpiryTest() throws InterruptedException {
+        Long stockId = stockRepository.findAll().get(0).getId();
+
+        // 이전 점유자 : 짧은 Lease 로 Lock 과 토큰을 받은 뒤 Lease 만료
+        Long staleToken = redissonClient.getFencedLock(stockId.toString()).tryLockAndGetToken(0, 200, TimeUnit.MILLISECONDS);
+        assertNotNull(staleToken);
+        Thread.sleep(300);
+
+        // 새 점유자 반영
+        redissonLockStockFacade.decrease(stockId, 1L);
+        Stock stock = stockRepository.findById(stockId).orElseThrow();
+        assertTrue(stock.getFencingToken() > staleToken);
+
+        // 이전 점유자의 늦은 쓰기 거절
+        assertThrows(StaleFencingTokenException.class, () -> stockService.decreaseWithFencingToken(Strategy.REDISSON, stockId, 1L, staleToken));
+        assertEquals(99L, stockRepository.findById(stockId).orElseThrow().getQuantity());
+    }
+}
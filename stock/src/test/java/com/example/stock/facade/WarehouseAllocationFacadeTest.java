@@ -0,0 +1,157 @@
+package com.example.stock.facade;
+
+import com.example.stock.allocation.Allocation;
+import com.example.stock.allocation.AllocationRequest;
+import com.example.stock.allocation.NearestAllocationPolicy;
+import com.example.stock.allocation.SplitShipmentAllocationPolicy;
+import com.example.stock.domain.WarehouseStock;
+import com.example.stock.repository.WarehouseStockRepository;
+import com.example.stock.service.WarehouseStockService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 창고별 재고 할당 테스트 클래스
+ */
+@SpringBootTest
+class WarehouseAllocationFacadeTest {
+
+    @Autowired
+    private WarehouseAllocationFacade warehouseAllocationFacade;    // 창고 재고 할당 Facade
+
+    @Autowired
+    private NearestAllocationPolicy nearestAllocationPolicy;        // 가까운 창고 우선 정책
+
+    @Autowired
+    private SplitShipmentAllocationPolicy splitShipmentAllocationPolicy;    // 분할 배송 정책
+
+    @Autowired
+    private WarehouseStockRepository warehouseStockRepository;      // 창고별 상품재고 CRUD 인터페이스
+
+    @Autowired
+    private WarehouseStockService warehouseStockService;            // 창고별 상품재고 서비스 로직
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;          // 다른 트랜잭션의 Lock 점유 재현용
+
+    /**
+     * 상품아이디 1 에 대해 세 창고에 재고 생성 (30 / 30 / 40, 합계 100)
+     */
+    @BeforeEach
+    public void before() {
+        warehouseStockRepository.saveAndFlush(new WarehouseStock(1L, 1L, 0.0, 0.0, 30L));
+        warehouseStockRepository.saveAndFlush(new WarehouseStock(1L, 2L, 10.0, 10.0, 30L));
+        warehouseStockRepository.saveAndFlush(new WarehouseStock(1L, 3L, 20.0, 20.0, 40L));
+    }
+
+    /**
+     * 테스트 종료 후 관련 데이터 삭제
+     */
+    @AfterEach
+    public void after() {
+        warehouseStockRepository.deleteAll();
+    }
+
+    /**
+     * Test 3-1) 가까운 창고 우선 정책으로 한 창고에서만 출고되는지 확인
+     */
+    @Test
+    public void allocateFromNearestWarehouseTest() throws InterruptedException {
+        List<Allocation> allocations = warehouseAllocationFacade.allocate(new AllocationRequest(1L, 5L, 9.0, 9.0), nearestAllocationPolicy);
+
+        assertEquals(1, allocations.size());
+        assertEquals(2L, allocations.get(0).warehouseId());
+    }
+
+    /**
+     * Test 3-2) 분할 배송 정책으로 여러 창고에 걸쳐 출고되는지 확인
+     */
+    @Test
+    public void allocateSplitShipmentTest() throws InterruptedException {
+        List<Allocation> allocations = warehouseAllocationFacade.allocate(new AllocationRequest(1L, 50L, 0.0, 0.0), splitShipmentAllocationPolicy);
+
+        assertEquals(2, allocations.size());
+        assertEquals(50L, allocations.stream().mapToLong(Allocation::quantity).sum());
+    }
+
+    /**
+     * Test 3-3) 창고 재고 할당 동시성 (동시에 여러 건의 요청) 테스트
+     * - 상품 단위 Lock 없이 창고별 조건부 업데이트만으로 전체 재고 100 이 정확히 소진되는지 확인
+     */
+    @Test
+    public void allocateConcurrencyTest() throws InterruptedException {
+        // 동시에 여러개의 요청을 보내야 하기 때문에 멀티쓰레드 사용하여 100개의 요청을 보낼 것
+        int threadCount = 100;
+
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        for(int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    warehouseAllocationFacade.allocate(new AllocationRequest(1L, 1L, 0.0, 0.0), splitShipmentAllocationPolicy);
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+
+        long remaining = warehouseStockRepository.findAll().stream().mapToLong(WarehouseStock::getQuantity).sum();
+
+        assertEquals(0, remaining);
+    }
+
+    /**
+     * Test 3-4) SKIP LOCKED 로 다른 요청이 점유 중인 창고 재고 행을 건너뛰고 비어 있는 행에서 차감하는지 확인
+     */
+    @Test
+    public void decreaseFromAnyFreeWarehouseSkipsLockedRowTest() throws Exception {
+        WarehouseStock first = warehouseStockRepository.findFirstByProductIdAndQuantityGreaterThanEqualOrderByIdAsc(1L, 1L).orElseThrow();
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+        // 첫 번째 창고 재고 행 Lock 점유
+        Future<?> holder = executorService.submit(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            warehouseStockRepository.findFirstByProductIdAndQuantityGreaterThanEqualOrderByIdAsc(1L, 1L);
+            locked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        locked.await();
+
+        Allocation allocation;
+        try {
+            allocation = warehouseStockService.decreaseFromAnyFreeWarehouse(1L, 10L);
+        } finally {
+            release.countDown();
+            holder.get();
+            executorService.shutdown();
+        }
+
+        assertNotEquals(first.getId(), allocation.warehouseStockId());
+        assertEquals(30L, warehouseStockRepository.findById(first.getId()).orElseThrow().getQuantity());
+        assertEquals(90L, warehouseStockRepository.findAll().stream().mapToLong(WarehouseStock::getQuantity).sum());
+    }
+}
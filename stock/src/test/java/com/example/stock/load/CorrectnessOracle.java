@@ -0,0 +1,72 @@
+package com.example.stock.load;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요청별 기록과 최종 재고를 비교하여 정합성 확인
+ *  . 초과 판매 (oversell)   : 성공한 수량 합이 초기 재고보다 크거나 최종 재고가 0 미만
+ *  . 갱신 손실 (lost update) : 최종 재고가 "초기 재고 - 성공 수량" 보다 큼 (성공이라 응답했지만 반영되지 않음)
+ *  . 유령 감소 (phantom)     : 최종 재고가 "초기 재고 - 성공 수량" 보다 작음 (실패라 응답했지만 반영됨)
+ *  . 잘못된 품절 응답        : 재고는 줄어들기만 하므로 최종 재고가 요청 수량 이상인데 품절로 거절된 요청은 잘못된 응답
+ */
+public class CorrectnessOracle {
+
+    /**
+     * @param initialStock  상품재고 아이디별 초기 재고
+     * @param finalStock    상품재고 아이디별 최종 재고
+     * @param records       요청별 기록
+     */
+    public Verdict check(Map<Long, Long> initialStock, Map<Long, Long> finalStock, List<RequestRecord> records) {
+        Map<Long, Long> succeeded = new HashMap<>();
+        records.stream()
+                .filter(record -> record.outcome() == RequestRecord.Outcome.SUCCESS)
+                .forEach(record -> succeeded.merge(record.stockId(), record.quantity(), Long::sum));
+
+        List<String> violations = new ArrayList<>();
+        long oversold = 0, lostUpdates = 0, phantomDecrements = 0;
+
+        for(Map.Entry<Long, Long> entry : initialStock.entrySet()) {
+            Long stockId = entry.getKey();
+            long initial = entry.getValue();
+            long sold = succeeded.getOrDefault(stockId, 0L);
+            long remaining = finalStock.get(stockId);
+            long expected = initial - sold;
+
+            if(sold > initial || remaining < 0) {
+                oversold += Math.max(sold - initial, -remaining);
+                violations.add("oversell stockId=" + stockId + " initial=" + initial + " sold=" + sold + " final=" + remaining);
+            }
+            if(remaining > expected) {
+                lostUpdates += remaining - expected;
+                violations.add("lost update stockId=" + stockId + " expected=" + expected + " final=" + remaining);
+            }
+            if(remaining < expected) {
+                phantomDecrements += expected - remaining;
+                violations.add("phantom decrement stockId=" + stockId + " expected=" + expected + " final=" + remaining);
+            }
+        }
+
+        long falseSoldOut = records.stream()
+                .filter(record -> record.outcome() == RequestRecord.Outcome.SOLD_OUT)
+                .filter(record -> finalStock.get(record.stockId()) >= record.quantity())
+                .count();
+        if(falseSoldOut > 0) {
+            violations.add("false sold-out responses=" + falseSoldOut);
+        }
+
+        return new Verdict(oversold, lostUpdates, phantomDecrements, falseSoldOut, violations);
+    }
+
+    /**
+     * 정합성 확인 결과
+     */
+    public record Verdict(long oversold, long lostUpdates, long phantomDecrements, long falseSoldOut, List<String> violations) {
+
+        public boolean passed() {
+            return violations.isEmpty();
+        }
+    }
+}
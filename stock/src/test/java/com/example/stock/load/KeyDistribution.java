@@ -0,0 +1,58 @@
+package com.example.stock.load;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 부하 요청이 어느 상품에 몰리는지 결정하는 분포
+ */
+public interface KeyDistribution {
+
+    // 0 ~ keyCount - 1 사이의 상품 인덱스 반환
+    int nextIndex();
+
+    String name();
+
+    // 모든 상품에 고르게 분포
+    static KeyDistribution uniform(int keyCount) {
+        return new KeyDistribution() {
+            @Override
+            public int nextIndex() {
+                return ThreadLocalRandom.current().nextInt(keyCount);
+            }
+
+            @Override
+            public String name() {
+                return "uniform(" + keyCount + ")";
+            }
+        };
+    }
+
+    /**
+     * 소수의 인기 상품에 요청이 몰리는 Zipf 분포
+     * @param keyCount  상품 개수
+     * @param exponent  치우침 정도 (클수록 첫 번째 상품에 더 몰림, 보통 1.0 내외)
+     */
+    static KeyDistribution zipf(int keyCount, double exponent) {
+        double[] cumulative = new double[keyCount];
+        double sum = 0;
+        for(int i = 0; i < keyCount; i++) {
+            sum += 1.0 / Math.pow(i + 1, exponent);
+            cumulative[i] = sum;
+        }
+        double total = sum;
+
+        return new KeyDistribution() {
+            @Override
+            public int nextIndex() {
+                int index = Arrays.binarySearch(cumulative, ThreadLocalRandom.current().nextDouble() * total);
+                return Math.min(index >= 0 ? index : -index - 1, keyCount - 1);
+            }
+
+            @Override
+            public String name() {
+                return "zipf(" + keyCount + ", " + exponent + ")";
+            }
+        };
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.stock.load;
+
+import com.example.stock.exception.OutOfStockException;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 부하 발생기
+ *  . open model   : 정해진 간격으로 요청을 발생시키고 지연시간은 "의도한 시작 시각" 부터 측정 (coordinated omission 보정)
+ *  . closed model : concurrency 개의 쓰레드가 응답을 받은 뒤 바로 다음 요청
+ */
+public class LoadGenerator {
+
+    // 쓰레드별 할당량 측정 (HotSpot 에서만 지원, 지원하지 않으면 -1 로 기록)
+    private static final com.sun.management.ThreadMXBean THREADS = threadMXBean();
+
+    /**
+     * 부하 실행
+     * @param profile   부하 설정
+     * @param target    부하 대상
+     * @param stockIds  대상 상품재고 아이디 (분포의 인덱스 순서)
+     */
+    public LoadResult run(LoadProfile profile, LoadTarget target, List<Long> stockIds) throws InterruptedException {
+        Histogram latency = new ConcurrentHistogram(3);
+        Queue<RequestRecord> records = new ConcurrentLinkedQueue<>();
+        ExecutorService executor = Executors.newFixedThreadPool(profile.concurrency());
+
+        long startedAt = System.nanoTime();
+        long durationNanos = profile.duration().toNanos();
+
+        if(profile.isOpenModel()) {
+            long intervalNanos = (long) (1_000_000_000L / profile.arrivalRate());
+            for(long i = 0; ; i++) {
+                long intendedAt = startedAt + i * intervalNanos;
+                if(intendedAt - startedAt >= durationNanos) {
+                    break;
+                }
+
+                long wait = intendedAt - System.nanoTime();
+                if(wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+
+                Long stockId = stockIds.get(profile.distribution().nextIndex());
+                executor.execute(() -> issue(target, stockId, profile.quantity(), intendedAt, latency, records));
+            }
+        } else {
+            for(int worker = 0; worker < profile.concurrency(); worker++) {
+                executor.execute(() -> {
+                    while(System.nanoTime() - startedAt < durationNanos) {
+                        Long stockId = stockIds.get(profile.distribution().nextIndex());
+                        issue(target, stockId, profile.quantity(), System.nanoTime(), latency, records);
+                    }
+                });
+            }
+        }
+
+        executor.shutdown();
+        if(!executor.awaitTermination(profile.duration().toSeconds() + 120, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+        return new LoadResult(profile, latency, new ArrayList<>(records), elapsedNanos);
+    }
+
+    private void issue(LoadTarget target, Long stockId, long quantity, long intendedAt, Histogram latency, Queue<RequestRecord> records) {
+        RequestRecord.Outcome outcome = RequestRecord.Outcome.SUCCESS;
+        String errorType = null;
+        long allocatedBefore = allocatedBytes();
+
+        try {
+            target.decrease(stockId, quantity);
+        } catch(OutOfStockException e) {
+            outcome = RequestRecord.Outcome.SOLD_OUT;
+        } catch(Exception e) {
+            outcome = RequestRecord.Outcome.ERROR;
+            errorType = e.getClass().getSimpleName();
+        }
+
+        long elapsed = System.nanoTime() - intendedAt;
+        long allocated = allocatedBefore < 0 ? -1 : allocatedBytes() - allocatedBefore;
+        latency.recordValue(elapsed);
+        records.add(new RequestRecord(stockId, quantity, outcome, errorType, elapsed, allocated));
+    }
+
+    private static long allocatedBytes() {
+        return THREADS == null ? -1 : THREADS.getCurrentThreadAllocatedBytes();
+    }
+
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        if(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported()) {
+            threads.setThreadAllocatedMemoryEnabled(true);
+            return threads;
+        }
+        return null;
+    }
+
+    /**
+     * 부하 실행 결과
+     * @param profile       부하 설정
+     * @param latency       지연시간 히스토그램 (ns)
+     * @param records       요청별 기록
+     * @param elapsedNanos  전체 실행 시간
+     */
+    public record LoadResult(LoadProfile profile, Histogram latency, List<RequestRecord> records, long elapsedNanos) {
+
+        public double throughput() {
+            return records.size() / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        public long count(RequestRecord.Outcome outcome) {
+            return records.stream().filter(record -> record.outcome() == outcome).count();
+        }
+
+        /*
+         * 요청당 평균 할당량 (바이트, 측정할 수 없으면 -1)
+         * 요청 쓰레드에서 할당한 양만 포함하므로 HTTP 대상이면 클라이언트 쪽 할당만 측정됨
+         */
+        public double allocatedBytesPerRequest() {
+            return records.stream()
+                    .mapToLong(RequestRecord::allocatedBytes)
+                    .filter(bytes -> bytes >= 0)
+                    .average()
+                    .orElse(-1);
+        }
+
+        // 실패 유형별 건수
+        public Map<String, Long> errorBreakdown() {
+            Map<String, Long> breakdown = new TreeMap<>();
+            records.stream()
+                    .filter(record -> record.outcome() == RequestRecord.Outcome.ERROR)
+                    .forEach(record -> breakdown.merge(record.errorType(), 1L, Long::sum));
+            return breakdown;
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.stock.load;
+
+import com.example.stock.controller.StockStrategy;
+import com.example.stock.domain.Stock;
+import com.example.stock.facade.LettuceLockStockFacade;
+import com.example.stock.facade.NamedLockStockFacade;
+import com.example.stock.facade.OptimisticLockStockFacade;
+import com.example.stock.facade.RedissonLockStockFacade;
+import com.example.stock.repository.StockRepository;
+import com.example.stock.service.JdbcStockService;
+import com.example.stock.service.PessimisticLockStockService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 부하 발생기와 정합성 검사를 활용한 전략별 부하 테스트
+ * - 기존 테스트처럼 요청 100 건의 최종 재고만 확인하지 않고
+ *   일정 시간 동안 Zipf 분포로 여러 상품에 요청을 보내며 지연시간 분포, 처리량, 실패 유형을 기록하고
+ *   요청별 기록으로 초과 판매 / 갱신 손실 / 잘못된 품절 응답이 없는지 확인
+ * - 결과는 build/load-reports 에 저장
+ * - 실행 시간이 길어 기본 test 태스크에서는 제외 (./gradlew loadTest 로 실행)
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class LoadHarnessTest {
+
+    private static final int KEY_COUNT = 10;
+    private static final long INITIAL_STOCK = 30L;
+
+    // 경로 비교 시에는 품절 응답이 섞이지 않도록 충분한 재고 사용
+    private static final long BENCHMARK_STOCK = 1_000_000L;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private StockRepository stockRepository;
+
+    @Autowired
+    private PessimisticLockStockService pessimisticLockStockService;
+
+    @Autowired
+    private OptimisticLockStockFacade optimisticLockStockFacade;
+
+    @Autowired
+    private NamedLockStockFacade namedLockStockFacade;
+
+    @Autowired
+    private LettuceLockStockFacade lettuceLockStockFacade;
+
+    @Autowired
+    private RedissonLockStockFacade redissonLockStockFacade;
+
+    @Autowired
+    private JdbcStockService jdbcStockService;
+
+    private final List<Long> stockIds = new ArrayList<>();
+
+    private final Map<Long, Long> initialStock = new HashMap<>();
+
+    /**
+     * 상품 10 개 생성 (상품별 재고 30)
+     */
+    @BeforeEach
+    public void before() {
+        createStocks(INITIAL_STOCK);
+    }
+
+    /**
+     * 테스트 종료 후 관련 데이터 삭제
+     */
+    @AfterEach
+    public void after() {
+        stockRepository.deleteAll();
+    }
+
+    /**
+     * 전략별 open model 부하 테스트 (초당 100 건, 3 초, 전체 재고 300 보다 많은 요청으로 품절까지 확인)
+     */
+    @ParameterizedTest
+    @EnumSource(StockStrategy.class)
+    public void strategyUnderOpenModelLoadTest(StockStrategy strategy) throws Exception {
+        LoadProfile profile = LoadProfile.open("strategy-" + strategy.name().toLowerCase(), 100, 16,
+                Duration.ofSeconds(3), KeyDistribution.zipf(KEY_COUNT, 1.0));
+
+        runAndVerify(profile, target(strategy));
+    }
+
+    /**
+     * HTTP API 를 대상으로 한 closed model 부하 테스트
+     */
+    @Test
+    public void httpApiUnderClosedModelLoadTest() throws Exception {
+        LoadProfile profile = LoadProfile.closed("http-pessimistic", 8, Duration.ofSeconds(3), KeyDistribution.uniform(KEY_COUNT));
+
+        runAndVerify(profile, LoadTarget.http("http://localhost:" + port, StockStrategy.PESSIMISTIC.name()));
+    }
+
+    /**
+     * JPA 경로와 JDBC 직접 사용 경로 비교 (같은 비관적 락 의미, 같은 closed model 부하)
+     * - 경로별 요청당 할당량과 p99 지연시간을 build/load-reports 의 비교 보고서로 저장
+     * - 측정 전 짧게 실행하여 JIT 컴파일 / 커넥션 풀 준비 영향을 줄임
+     */
+    @Test
+    public void jpaVersusJdbcPathLoadTest() throws Exception {
+        after();
+        createStocks(BENCHMARK_STOCK);
+
+        Map<String, LoadTarget> paths = new LinkedHashMap<>();
+        paths.put("jpa-pessimistic", pessimisticLockStockService::decrease);
+        paths.put("jdbc-pessimistic", jdbcStockService::decreaseWithPessimisticLock);
+        paths.put("jdbc-conditional-update", jdbcStockService::decrease);
+
+        Map<String, LoadGenerator.LoadResult> results = new LinkedHashMap<>();
+        for(Map.Entry<String, LoadTarget> path : paths.entrySet()) {
+            new LoadGenerator().run(LoadProfile.closed("warmup-" + path.getKey(), 8, Duration.ofSeconds(1),
+                    KeyDistribution.uniform(KEY_COUNT)), path.getValue(), stockIds);
+            initialStock.replaceAll((id, quantity) -> stockRepository.findById(id).orElseThrow().getQuantity());
+
+            results.put(path.getKey(), runAndVerify(LoadProfile.closed("path-" + path.getKey(), 8, Duration.ofSeconds(3),
+                    KeyDistribution.uniform(KEY_COUNT)), path.getValue()));
+            initialStock.replaceAll((id, quantity) -> stockRepository.findById(id).orElseThrow().getQuantity());
+        }
+
+        Path report = LoadReport.writeComparison("jpa-vs-jdbc", results);
+        results.forEach((path, result) -> {
+            assertEquals(0, result.count(RequestRecord.Outcome.ERROR), path + " 경로 실패 (load report : " + report + ")");
+            assertTrue(result.allocatedBytesPerRequest() > 0, path + " 경로 할당량 측정 실패 (load report : " + report + ")");
+        });
+    }
+
+    private void createStocks(long quantity) {
+        stockIds.clear();
+        initialStock.clear();
+        for(long productId = 1; productId <= KEY_COUNT; productId++) {
+            Long id = stockRepository.saveAndFlush(new Stock(productId, quantity)).getId();
+            stockIds.add(id);
+            initialStock.put(id, quantity);
+        }
+    }
+
+    // 부하 실행 후 정합성 검사, 결과는 파일로 저장하고 실패 시 위반 내용과 리포트 경로를 함께 표시
+    private LoadGenerator.LoadResult runAndVerify(LoadProfile profile, LoadTarget target) throws Exception {
+        LoadGenerator.LoadResult result = new LoadGenerator().run(profile, target, stockIds);
+
+        Map<Long, Long> finalStock = new HashMap<>();
+        stockRepository.findAllById(stockIds).forEach(stock -> finalStock.put(stock.getId(), stock.getQuantity()));
+
+        CorrectnessOracle.Verdict verdict = new CorrectnessOracle().check(initialStock, finalStock, result.records());
+        Path report = LoadReport.write(result, verdict);
+        assertTrue(verdict.passed(), verdict.violations() + " (load report : " + report + ")");
+        return result;
+    }
+
+    private LoadTarget target(StockStrategy strategy) {
+        return switch(strategy) {
+            case PESSIMISTIC -> pessimisticLockStockService::decrease;
+            case PESSIMISTIC_NOWAIT -> pessimisticLockStockService::decreaseNoWait;
+            case OPTIMISTIC -> optimisticLockStockFacade::decrease;
+            case NAMED -> namedLockStockFacade::decrease;
+            case LETTUCE -> lettuceLockStockFacade::decrease;
+            case REDISSON -> redissonLockStockFacade::decrease;
+            case JDBC -> jdbcStockService::decrease;
+        };
+    }
+}
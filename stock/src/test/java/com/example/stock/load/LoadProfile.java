@@ -0,0 +1,30 @@
+package com.example.stock.load;
+
+import java.time.Duration;
+
+/**
+ * 부하 설정
+ * @param name              보고서 이름
+ * @param arrivalRate       초당 요청 수 (0 이하면 closed model : concurrency 개의 쓰레드가 쉬지 않고 요청)
+ * @param concurrency       동시 처리 쓰레드 수
+ * @param duration          요청 발생 시간
+ * @param distribution      상품 분포
+ * @param quantity          요청당 감소 수량
+ */
+public record LoadProfile(String name, double arrivalRate, int concurrency, Duration duration,
+                          KeyDistribution distribution, long quantity) {
+
+    // open model : 응답 속도와 관계없이 정해진 간격으로 요청 발생
+    public static LoadProfile open(String name, double arrivalRate, int concurrency, Duration duration, KeyDistribution distribution) {
+        return new LoadProfile(name, arrivalRate, concurrency, duration, distribution, 1);
+    }
+
+    // closed model : 각 쓰레드가 응답을 받은 뒤 다음 요청
+    public static LoadProfile closed(String name, int concurrency, Duration duration, KeyDistribution distribution) {
+        return new LoadProfile(name, 0, concurrency, duration, distribution, 1);
+    }
+
+    public boolean isOpenModel() {
+        return arrivalRate > 0;
+    }
+}
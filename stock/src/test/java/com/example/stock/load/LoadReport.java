@@ -0,0 +1,109 @@
+package com.example.stock.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 실행 결과 보고서
+ * 회귀 비교를 위해 build/load-reports 아래에 JSON 요약과 HdrHistogram 백분위 분포 (.hgrm) 를 남김
+ */
+public final class LoadReport {
+
+    private static final Path REPORT_DIR = Path.of("build", "load-reports");
+
+    private LoadReport() {
+
+    }
+
+    public static Map<String, Object> summarize(LoadGenerator.LoadResult result, CorrectnessOracle.Verdict verdict) {
+        Histogram latency = result.latency();
+
+        Map<String, Object> latencyMicros = new LinkedHashMap<>();
+        latencyMicros.put("mean", latency.getMean() / 1_000);
+        latencyMicros.put("p50", latency.getValueAtPercentile(50) / 1_000);
+        latencyMicros.put("p90", latency.getValueAtPercentile(90) / 1_000);
+        latencyMicros.put("p99", latency.getValueAtPercentile(99) / 1_000);
+        latencyMicros.put("p999", latency.getValueAtPercentile(99.9) / 1_000);
+        latencyMicros.put("max", latency.getMaxValue() / 1_000);
+
+        Map<String, Object> profile = new LinkedHashMap<>();
+        profile.put("arrivalRate", result.profile().arrivalRate());
+        profile.put("concurrency", result.profile().concurrency());
+        profile.put("durationMillis", result.profile().duration().toMillis());
+        profile.put("distribution", result.profile().distribution().name());
+        profile.put("quantity", result.profile().quantity());
+
+        Map<String, Object> outcomes = new LinkedHashMap<>();
+        for(RequestRecord.Outcome outcome : RequestRecord.Outcome.values()) {
+            outcomes.put(outcome.name(), result.count(outcome));
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("name", result.profile().name());
+        report.put("timestamp", Instant.now().toString());
+        report.put("profile", profile);
+        report.put("requests", result.records().size());
+        report.put("throughputPerSecond", result.throughput());
+        report.put("latencyMicros", latencyMicros);
+        report.put("allocatedBytesPerRequest", result.allocatedBytesPerRequest());
+        report.put("outcomes", outcomes);
+        report.put("errors", result.errorBreakdown());
+        report.put("correctness", verdict);
+        return report;
+    }
+
+    // JSON 요약과 백분위 분포 파일 저장
+    public static Path write(LoadGenerator.LoadResult result, CorrectnessOracle.Verdict verdict) throws IOException {
+        Files.createDirectories(REPORT_DIR);
+        String baseName = result.profile().name() + "-" + System.currentTimeMillis();
+
+        Path json = REPORT_DIR.resolve(baseName + ".json");
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(json.toFile(), summarize(result, verdict));
+
+        try(PrintStream out = new PrintStream(Files.newOutputStream(REPORT_DIR.resolve(baseName + ".hgrm")))) {
+            // ns 단위로 기록했으므로 us 단위로 출력
+            result.latency().outputPercentileDistribution(out, 1_000.0);
+        }
+
+        return json;
+    }
+
+    /**
+     * 같은 부하 설정으로 실행한 경로별 결과 비교 (요청당 할당량, 지연시간 백분위, 처리량)
+     * @param name      보고서 이름
+     * @param results   경로 이름별 실행 결과
+     */
+    public static Path writeComparison(String name, Map<String, LoadGenerator.LoadResult> results) throws IOException {
+        Files.createDirectories(REPORT_DIR);
+
+        Map<String, Object> paths = new LinkedHashMap<>();
+        results.forEach((path, result) -> {
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("requests", result.records().size());
+            summary.put("throughputPerSecond", result.throughput());
+            summary.put("allocatedBytesPerRequest", result.allocatedBytesPerRequest());
+            summary.put("p50Micros", result.latency().getValueAtPercentile(50) / 1_000);
+            summary.put("p99Micros", result.latency().getValueAtPercentile(99) / 1_000);
+            summary.put("errors", result.errorBreakdown());
+            paths.put(path, summary);
+        });
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("name", name);
+        report.put("timestamp", Instant.now().toString());
+        report.put("paths", paths);
+
+        Path json = REPORT_DIR.resolve(name + "-" + System.currentTimeMillis() + ".json");
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(json.toFile(), report);
+        return json;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.stock.load;
+
+import com.example.stock.exception.OutOfStockException;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+
+/**
+ * 부하 대상 (전략별 Facade / 서비스, 혹은 HTTP API)
+ */
+@FunctionalInterface
+public interface LoadTarget {
+
+    void decrease(Long id, Long quantity) throws Exception;
+
+    /**
+     * HTTP API 대상
+     * 409 응답은 재고 부족으로 처리
+     * @param baseUrl   예) http://localhost:8080
+     * @param strategy  StockStrategy 이름
+     */
+    static LoadTarget http(String baseUrl, String strategy) {
+        RestClient restClient = RestClient.create(baseUrl);
+        return (id, quantity) -> {
+            try {
+                restClient.post()
+                        .uri("/stocks/{id}/decrease?quantity={quantity}&strategy={strategy}", id, quantity, strategy)
+                        .retrieve()
+                        .toBodilessEntity();
+            } catch(HttpClientErrorException.Conflict e) {
+                throw new OutOfStockException();
+            }
+        };
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.stock.load;
+
+/**
+ * 요청 한 건의 기록
+ * @param stockId       상품재고 아이디
+ * @param quantity      요청 수량
+ * @param outcome       결과
+ * @param errorType     실패 시 예외 클래스 이름
+ * @param latencyNanos  의도한 시작 시각부터 응답까지 걸린 시간 (대기열 지연 포함)
+ * @param allocatedBytes 요청을 처리하는 동안 요청 쓰레드에서 할당한 바이트 (측정할 수 없으면 -1)
+ */
+public record RequestRecord(Long stockId, long quantity, Outcome outcome, String errorType, long latencyNanos, long allocatedBytes) {
+
+    public enum Outcome {
+        SUCCESS,    // 재고 감소 성공
+        SOLD_OUT,   // 재고 부족으로 거절
+        ERROR       // 그 외 실패
+    }
+}
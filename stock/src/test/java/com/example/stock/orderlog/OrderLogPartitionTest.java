@@ -0,0 +1,73 @@
+package com.example.stock.orderlog;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 주문 로그 파티션 (세그먼트 파일) 테스트 클래스
+ */
+class OrderLogPartitionTest {
+
+    @TempDir
+    private Path directory;
+
+    /**
+     * Test 8-1) 세그먼트 크기를 넘으면 새 세그먼트로 이어서 기록되고 오프셋 순서대로 읽히는지 확인
+     */
+    @Test
+    public void appendRollsSegmentsAndReadsInOrderTest() throws IOException {
+        try(OrderLogPartition partition = new OrderLogPartition(0, directory, 4)) {
+            for(long i = 0; i < 10; i++) {
+                partition.flush(partition.append(new OrderLogRecord(i, 1), new CompletableFuture<>()));
+            }
+
+            assertEquals(3, segmentFiles());
+            assertEquals(List.of(new OrderLogRecord(2, 1), new OrderLogRecord(3, 1)), partition.read(2, 10));
+            assertEquals(List.of(new OrderLogRecord(4, 1), new OrderLogRecord(5, 1)), partition.read(4, 2));
+
+            // 처리가 끝난 세그먼트 삭제
+            partition.deleteSegmentsBefore(8);
+            assertEquals(1, segmentFiles());
+            assertEquals(8, partition.earliestOffset());
+        }
+    }
+
+    /**
+     * Test 8-2) 기록 도중 중단되어 마지막 레코드가 깨진 경우 재시작 시 깨진 부분만 잘라내고 이어서 기록하는지 확인
+     */
+    @Test
+    public void recoverTruncatesTornTailTest() throws IOException {
+        try(OrderLogPartition partition = new OrderLogPartition(0, directory, 100)) {
+            for(long i = 0; i < 3; i++) {
+                partition.flush(partition.append(new OrderLogRecord(i, 1), new CompletableFuture<>()));
+            }
+        }
+
+        // 마지막 레코드 일부만 기록된 상황 재현
+        Path segment = Files.list(directory).findFirst().orElseThrow();
+        Files.write(segment, new byte[OrderLogRecord.SIZE / 2], StandardOpenOption.APPEND);
+
+        try(OrderLogPartition partition = new OrderLogPartition(0, directory, 100)) {
+            assertEquals(3, partition.flushedOffset());
+            assertEquals(3, partition.append(new OrderLogRecord(3, 1), new CompletableFuture<>()));
+            partition.flush(3);
+            assertEquals(4, partition.read(0, 10).size());
+        }
+    }
+
+    private long segmentFiles() throws IOException {
+        try(Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.stock.orderlog;
+
+import com.example.stock.domain.Stock;
+import com.example.stock.exception.OutOfStockException;
+import com.example.stock.repository.OrderLogOffsetRepository;
+import com.example.stock.repository.OrderLogRejectionRepository;
+import com.example.stock.repository.StockRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 파티션 주문 로그를 통한 재고 감소 테스트 클래스
+ */
+@SpringBootTest(properties = {"stock.order-log.enabled=true", "stock.order-log.partitions=4", "stock.order-log.batch-size=50"})
+class OrderLogTest {
+
+    @TempDir
+    static Path directory;
+
+    @DynamicPropertySource
+    static void orderLogDirectory(DynamicPropertyRegistry registry) {
+        registry.add("stock.order-log.directory", () -> directory.toString());
+    }
+
+    @Autowired
+    private OrderLog orderLog;                  // 파티션 주문 로그
+
+    @Autowired
+    private StockRepository stockRepository;    // 상품재고 엔티티 CRUD 인터페이스
+
+    @Autowired
+    private OrderLogOffsetRepository orderLogOffsetRepository;  // 파티션별 소비 위치 저장소
+
+    @Autowired
+    private OrderLogRejectionRepository orderLogRejectionRepository;    // 거절된 레코드 저장소
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long stockId;
+
+    @BeforeEach
+    public void before() {
+        stockId = stockRepository.saveAndFlush(new Stock(1L, 100L)).getId();
+    }
+
+    /**
+     * 테스트 종료 후 관련 데이터 삭제 (다음 실행은 새 로그 디렉토리를 사용하므로 소비 위치와 거절 기록도 함께 삭제)
+     */
+    @AfterEach
+    public void after() {
+        stockRepository.deleteAll();
+        orderLogOffsetRepository.deleteAll();
+        orderLogRejectionRepository.deleteAll();
+    }
+
+    /**
+     * Test 8-3) 100 건의 요청을 로그에 기록하면 소비자가 순서대로 반영하여 재고가 0 이 되는지 확인
+     * - 같은 재고의 요청은 한 파티션 소비자만 처리하므로 Lock 없이도 정합성 유지
+     * - 재고가 없는 상태의 요청은 OutOfStockException 으로 완료
+     */
+    @Test
+    public void decreaseThroughOrderLogTest() throws Exception {
+        int threadCount = 100;
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        ConcurrentLinkedQueue<OrderLogReceipt> receipts = new ConcurrentLinkedQueue<>();
+
+        for(int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    receipts.add(orderLog.append(stockId, 1L));
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        List<CompletableFuture<Void>> completions = receipts.stream().map(OrderLogReceipt::completion).toList();
+        CompletableFuture.allOf(completions.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+
+        assertEquals(0L, stockRepository.findById(stockId).orElseThrow().getQuantity());
+        assertTrue(receipts.stream().allMatch(receipt ->
+                orderLog.status(receipt.partition(), receipt.offset()).state() == OrderLogRecordStatus.State.APPLIED));
+
+        // 재고 소진 후 요청은 처리되었지만 반영되지 않은 (REJECTED) 상태로 조회
+        OrderLogReceipt soldOut = orderLog.append(stockId, 1L);
+        ExecutionException e = assertThrows(ExecutionException.class, () -> soldOut.completion().get(10, TimeUnit.SECONDS));
+        assertInstanceOf(OutOfStockException.class, e.getCause());
+
+        OrderLogRecordStatus status = orderLog.status(soldOut.partition(), soldOut.offset());
+        assertEquals(OrderLogRecordStatus.State.REJECTED, status.state());
+        assertEquals(e.getCause().getMessage(), status.reason());
+    }
+
+    /**
+     * Test 8-4) 소비 위치가 로그 디렉토리에 저장된 로그 아이디 기준으로 저장되는지 확인
+     * - 다른 인스턴스 (다른 로그 아이디) 의 같은 파티션 소비 위치와 서로 덮어쓰지 않아야 함
+     */
+    @Test
+    public void offsetIsKeyedByLogIdTest() throws Exception {
+        assertEquals(orderLog.logId(), Files.readString(directory.resolve("log-id")).trim());
+
+        OrderLogReceipt receipt = orderLog.append(stockId, 1L);
+        receipt.completion().get(10, TimeUnit.SECONDS);
+
+        // 다른 로그의 같은 파티션 소비 위치 기록
+        String otherLogId = UUID.randomUUID().toString();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                orderLogOffsetRepository.upsert(otherLogId, receipt.partition(), 1_000L));
+
+        assertEquals(receipt.offset() + 1, orderLogOffsetRepository.findNextOffset(orderLog.logId(), receipt.partition()).orElseThrow());
+        assertEquals(1_000L, orderLogOffsetRepository.findNextOffset(otherLogId, receipt.partition()).orElseThrow());
+    }
+}
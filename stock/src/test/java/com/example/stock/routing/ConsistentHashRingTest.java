@@ -0,0 +1,54 @@
+package com.example.stock.routing;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 일관된 해싱 링 테스트
+ */
+class ConsistentHashRingTest {
+
+    /**
+     * 같은 멤버 구성이면 멤버 순서와 관계없이 같은 소유자를 반환하는지 확인
+     */
+    @Test
+    public void sameMembersSameOwnerTest() {
+        ConsistentHashRing a = new ConsistentHashRing(List.of("node-1", "node-2", "node-3"));
+        ConsistentHashRing b = new ConsistentHashRing(List.of("node-3", "node-1", "node-2"));
+
+        assertEquals(a.viewId(), b.viewId());
+        LongStream.rangeClosed(1, 1_000).forEach(id -> assertEquals(a.ownerOf(id), b.ownerOf(id)));
+    }
+
+    /**
+     * 인스턴스가 추가되면 새 인스턴스로 옮겨가는 상품만 소유자가 바뀌는지 확인
+     */
+    @Test
+    public void joinMovesOnlyKeysToNewMemberTest() {
+        ConsistentHashRing before = new ConsistentHashRing(List.of("node-1", "node-2", "node-3"));
+        ConsistentHashRing after = new ConsistentHashRing(List.of("node-1", "node-2", "node-3", "node-4"));
+
+        long moved = 0;
+        for(long id = 1; id <= 10_000; id++) {
+            if(!before.ownerOf(id).equals(after.ownerOf(id))) {
+                assertEquals("node-4", after.ownerOf(id));
+                moved++;
+            }
+        }
+
+        // 대략 1/4 정도만 이동
+        assertTrue(moved > 1_500 && moved < 3_500, "moved=" + moved);
+    }
+
+    /**
+     * 멤버가 없으면 소유자가 없음
+     */
+    @Test
+    public void emptyRingHasNoOwnerTest() {
+        assertNull(ConsistentHashRing.empty().ownerOf(1L));
+    }
+}
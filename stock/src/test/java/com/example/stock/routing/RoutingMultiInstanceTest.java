@@ -0,0 +1,142 @@
+package com.example.stock.routing;
+
+import com.example.stock.StockApplication;
+import com.example.stock.domain.Stock;
+import com.example.stock.exception.NotOwnerException;
+import com.example.stock.facade.RoutingStockFacade;
+import com.example.stock.repository.StockRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 한 장비에서 여러 인스턴스를 띄워 상품 소유 인스턴스 라우팅 테스트
+ * 각 인스턴스는 임의 포트의 웹 서버와 같은 MySQL / Redis 를 사용
+ */
+class RoutingMultiInstanceTest {
+
+    private static final int INSTANCE_COUNT = 3;
+
+    private final List<ConfigurableApplicationContext> instances = new ArrayList<>();
+
+    private Long stockId;
+
+    /**
+     * 인스턴스 3 대를 띄우고 모든 인스턴스가 같은 멤버 구성을 볼 때까지 대기한 뒤 데이터 생성 (상품아이디 1 , 재고 100)
+     */
+    @BeforeEach
+    public void before() throws InterruptedException {
+        for(int i = 1; i <= INSTANCE_COUNT; i++) {
+            instances.add(new SpringApplicationBuilder(StockApplication.class)
+                    .properties("server.port=0",
+                            "stock.routing.enabled=true",
+                            "stock.routing.instance-id=routing-test-node-" + i,
+                            "stock.routing.heartbeat-interval=PT0.2S")
+                    .run());
+        }
+
+        awaitMembers(INSTANCE_COUNT);
+
+        stockId = instances.get(0).getBean(StockRepository.class).saveAndFlush(new Stock(1L, 100L)).getId();
+    }
+
+    /**
+     * 테스트 종료 후 관련 데이터 삭제 및 인스턴스 종료
+     */
+    @AfterEach
+    public void after() {
+        instances.get(0).getBean(StockRepository.class).deleteAll();
+        instances.forEach(ConfigurableApplicationContext::close);
+    }
+
+    /**
+     * 모든 인스턴스가 같은 상품에 대해 같은 소유자를 가리키는지 확인
+     */
+    @Test
+    public void instancesAgreeOnOwnerTest() {
+        for(long id = 1; id <= 100; id++) {
+            String owner = instances.get(0).getBean(ProductOwnership.class).ownerOf(id);
+            for(ConfigurableApplicationContext instance : instances) {
+                assertEquals(owner, instance.getBean(ProductOwnership.class).ownerOf(id));
+            }
+        }
+    }
+
+    /**
+     * 여러 인스턴스로 나누어 들어온 100 건의 요청이 소유 인스턴스로 모여 정확히 처리되는지 확인
+     * 도중에 인스턴스 한 대를 종료하여 소유권 이전 (handoff) 도 함께 확인
+     */
+    @Test
+    public void decreaseAcrossInstancesTest() throws InterruptedException {
+        int threadCount = 100;
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        List<RoutingStockFacade> facades = instances.stream().map(instance -> instance.getBean(RoutingStockFacade.class)).toList();
+
+        for(int i = 0; i < threadCount; i++) {
+            // 마지막 인스턴스는 중간에 종료하므로 요청은 앞의 두 인스턴스로만 보냄
+            RoutingStockFacade facade = facades.get(i % (INSTANCE_COUNT - 1));
+            executorService.submit(() -> {
+                try {
+                    facade.decrease(stockId, 1L);
+                } finally {
+                    latch.countDown();
+                }
+            });
+
+            if(i == threadCount / 2) {
+                instances.remove(INSTANCE_COUNT - 1).close();
+            }
+        }
+
+        latch.await();
+
+        Stock stock = instances.get(0).getBean(StockRepository.class).findById(stockId).orElseThrow();
+        assertEquals(0, stock.getQuantity());
+    }
+
+    /**
+     * 다른 인스턴스가 전달한 요청을 소유자가 아닌 인스턴스가 받으면 다시 전달하지 않고 거절하는지 확인
+     */
+    @Test
+    public void forwardedToNonOwnerIsRejectedTest() {
+        ConfigurableApplicationContext owner = instances.stream()
+                .filter(instance -> instance.getBean(ProductOwnership.class).instanceId()
+                        .equals(instance.getBean(ProductOwnership.class).ownerOf(stockId)))
+                .findFirst()
+                .orElseThrow();
+        ConfigurableApplicationContext nonOwner = instances.stream().filter(instance -> instance != owner).findFirst().orElseThrow();
+
+        assertThrows(NotOwnerException.class,
+                () -> nonOwner.getBean(RoutingStockFacade.class).decreaseForwarded(stockId, 1L, "routing-test-node-x"));
+
+        owner.getBean(RoutingStockFacade.class).decreaseForwarded(stockId, 1L, "routing-test-node-x");
+        assertEquals(99L, owner.getBean(StockRepository.class).findById(stockId).orElseThrow().getQuantity());
+    }
+
+    private void awaitMembers(int count) throws InterruptedException {
+        for(int attempt = 0; attempt < 100; attempt++) {
+            boolean converged = instances.stream()
+                    .map(instance -> instance.getBean(ProductOwnership.class).members())
+                    .allMatch(members -> members.size() == count && Set.copyOf(members).equals(
+                            instances.get(0).getBean(ProductOwnership.class).members()));
+            if(converged) {
+                return;
+            }
+            Thread.sleep(100);
+        }
+        fail("인스턴스 멤버 구성이 수렴하지 않았습니다.");
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.stock.service;
+
+import com.example.stock.domain.Stock;
+import com.example.stock.exception.OutOfStockException;
+import com.example.stock.repository.StockRepository;
+import com.example.stock.support.ConcurrentRequests;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JDBC 직접 사용 상품재고 서비스 로직 테스트
+ */
+@SpringBootTest
+class JdbcStockServiceTest {
+
+    @Autowired
+    private JdbcStockService jdbcStockService;  // JDBC 상품재고 서비스 로직
+
+    @Autowired
+    private StockService stockService;          // JPA 상품재고 서비스 로직
+
+    @Autowired
+    private PessimisticLockStockService pessimisticLockStockService;    // JPA 비관적 락 상품재고 서비스 로직
+
+    @Autowired
+    private StockRepository stockRepository;    // 상품재고 엔티티 CRUD 인터페이스
+
+    private Long stockId;
+
+    /**
+     * 테스트 실행 전 데이터 생성 (상품아이디 1 , 재고 100)
+     */
+    @BeforeEach
+    public void before() {
+        stockId = stockRepository.saveAndFlush(new Stock(1L, 100L)).getId();
+    }
+
+    /**
+     * 테스트 종료 후 관련 데이터 삭제
+     */
+    @AfterEach
+    public void after() {
+        stockRepository.deleteAll();
+    }
+
+    /**
+     * Test 5-1) 조건부 업데이트를 활용한 재고 감소 로직 동시성 테스트
+     */
+    @Test
+    public void decreaseConcurrencyTest() throws InterruptedException {
+        ConcurrentRequests.run(100, () -> jdbcStockService.decrease(stockId, 1L));
+
+        assertEquals(0, stockRepository.findById(stockId).orElseThrow().getQuantity());
+    }
+
+    /**
+     * Test 5-2) 비관적 락 (Pessimistic Lock) 을 활용한 재고 감소 로직 동시성 테스트
+     */
+    @Test
+    public void decreaseWithPessimisticLockConcurrencyTest() throws InterruptedException {
+        ConcurrentRequests.run(100, () -> jdbcStockService.decreaseWithPessimisticLock(stockId, 1L));
+
+        assertEquals(0, stockRepository.findById(stockId).orElseThrow().getQuantity());
+    }
+
+    /**
+     * Test 5-3) 재고보다 많은 요청이 들어와도 재고가 0 미만이 되지 않는지 확인
+     */
+    @Test
+    public void decreaseNeverOversellsTest() throws InterruptedException {
+        ConcurrentRequests.run(150, () -> jdbcStockService.decrease(stockId, 1L));
+
+        assertEquals(0, stockRepository.findById(stockId).orElseThrow().getQuantity());
+    }
+
+    /**
+     * Test 5-4) JPA 경로와 JDBC 경로를 섞어 동시에 호출해도 같은 행을 정확히 한 번씩만 차감하고,
+     * 재고가 바닥나면 두 경로 모두 OutOfStockException 으로 거절하는지 확인
+     */
+    @Test
+    public void mixedWithJpaPathTest() throws InterruptedException {
+        AtomicInteger sequence = new AtomicInteger();
+
+        int succeeded = ConcurrentRequests.run(100, () -> {
+            if(sequence.getAndIncrement() % 2 == 0) {
+                pessimisticLockStockService.decrease(stockId, 1L);
+            } else {
+                jdbcStockService.decrease(stockId, 1L);
+            }
+        });
+
+        assertEquals(100, succeeded);
+        assertEquals(0, stockRepository.findById(stockId).orElseThrow().getQuantity());
+        assertThrows(OutOfStockException.class, () -> stockService.decrease(stockId, 1L));
+        assertThrows(OutOfStockException.class, () -> jdbcStockService.decrease(stockId, 1L));
+    }
+
+    /**
+     * Test 5-5) 0 이하 수량으로 감소하면 재고가 늘어나지 않고 IllegalArgumentException 으로 거절되는지 확인 (JPA / JDBC 경로)
+     */
+    @Test
+    public void nonPositiveDecreaseIsRejectedTest() {
+        assertThrows(IllegalArgumentException.class, () -> stockService.decrease(stockId, -1_000L));
+        assertThrows(IllegalArgumentException.class, () -> pessimisticLockStockService.decrease(stockId, 0L));
+        assertThrows(IllegalArgumentException.class, () -> jdbcStockService.decrease(stockId, -1_000L));
+        assertThrows(IllegalArgumentException.class, () -> jdbcStockService.decreaseByProductId(1L, -1_000L));
+        assertThrows(IllegalArgumentException.class, () -> jdbcStockService.decreaseWithPessimisticLock(stockId, 0L));
+
+        assertEquals(100L, stockRepository.findById(stockId).orElseThrow().getQuantity());
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.stock.service;
+
+import com.example.stock.domain.PurchaseLimit;
+import com.example.stock.domain.Stock;
+import com.example.stock.exception.OutOfStockException;
+import com.example.stock.exception.PurchaseLimitExceededException;
+import com.example.stock.repository.PurchaseCounterRepository;
+import com.example.stock.repository.RedisPurchaseLimitRepository;
+import com.example.stock.repository.StockRepository;
+import com.example.stock.support.ConcurrentRequests;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 사용자별 구매 한도 서비스 로직 테스트
+ */
+@SpringBootTest
+class PurchaseLimitServiceTest {
+
+    @Autowired
+    private PurchaseLimitService purchaseLimitService;      // 구매 한도 서비스 로직
+
+    @Autowired
+    private StockRepository stockRepository;                // 상품재고 엔티티 CRUD 인터페이스
+
+    @Autowired
+    private PurchaseCounterRepository purchaseCounterRepository;    // DB 구매 카운터 저장소
+
+    @Autowired
+    private RedisPurchaseLimitRepository redisPurchaseLimitRepository;  // Redis 구매 한도 저장소
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private RestockService restockService;                  // 입고 서비스 로직
+
+    @Autowired
+    private PessimisticLockStockService pessimisticLockStockService;    // Redis 를 거치지 않는 재고 감소
+
+    private Long stockId;
+
+    /**
+     * 테스트 실행 전 데이터 생성 (상품아이디 1 , 재고 100)
+     */
+    @BeforeEach
+    public void before() {
+        stockId = stockRepository.saveAndFlush(new Stock(1L, 100L)).getId();
+    }
+
+    /**
+     * 테스트 종료 후 관련 데이터 삭제
+     */
+    @AfterEach
+    public void after() {
+        stockRepository.deleteAll();
+        purchaseCounterRepository.deleteAll();
+        redisTemplate.delete(redisPurchaseLimitRepository.stockKey(stockId));
+    }
+
+    /**
+     * Test 7-1) Redis 전략 : 한 사용자가 동시에 10 번 구매해도 한도 (3 개) 까지만 성공하는지 확인
+     */
+    @Test
+    public void decreaseUsingRedisWithinCampaignLimitTest() throws InterruptedException {
+        PurchaseLimit limit = PurchaseLimit.perCampaign(UUID.randomUUID().toString(), 3, Duration.ofMinutes(10));
+
+        int succeeded = ConcurrentRequests.run(10, () -> purchaseLimitService.decreaseUsingRedis(1L, stockId, 1L, limit));
+
+        assertEquals(3, succeeded);
+        assertEquals(97L, stockRepository.findById(stockId).orElseThrow().getQuantity());
+    }
+
+    /**
+     * Test 7-2) Redis 전략 : 슬라이딩 윈도우 한도 확인
+     */
+    @Test
+    public void decreaseUsingRedisWithinSlidingWindowTest() {
+        PurchaseLimit limit = PurchaseLimit.slidingWindow(UUID.randomUUID().toString(), 2, Duration.ofMinutes(1));
+
+        purchaseLimitService.decreaseUsingRedis(1L, stockId, 2L, limit);
+
+        assertThrows(PurchaseLimitExceededException.class, () -> purchaseLimitService.decreaseUsingRedis(1L, stockId, 1L, limit));
+        // 다른 사용자는 영향 없음
+        purchaseLimitService.decreaseUsingRedis(2L, stockId, 1L, limit);
+        assertEquals(97L, stockRepository.findById(stockId).orElseThrow().getQuantity());
+    }
+
+    /**
+     * Test 7-3) DB 전략 : 한 사용자가 동시에 10 번 구매해도 한도 (3 개) 까지만 성공하는지 확인
+     */
+    @Test
+    public void decreaseUsingDatabaseWithinCampaignLimitTest() throws InterruptedException {
+        PurchaseLimit limit = PurchaseLimit.perCampaign(UUID.randomUUID().toString(), 3, Duration.ofMinutes(10));
+
+        int succeeded = ConcurrentRequests.run(10, () -> purchaseLimitService.decreaseUsingDatabase(1L, stockId, 1L, limit));
+
+        assertEquals(3, succeeded);
+        assertEquals(97L, stockRepository.findById(stockId).orElseThrow().getQuantity());
+    }
+
+    /**
+     * Test 7-4) Redis 전략 : 캠페인 카운터의 만료 시간이 구매할 때마다 늘어나지 않는지 확인
+     */
+    @Test
+    public void campaignCounterExpiryIsNotExtendedTest() throws InterruptedException {
+        String campaignId = UUID.randomUUID().toString();
+        PurchaseLimit limit = PurchaseLimit.perCampaign(campaignId, 3, Duration.ofMinutes(10));
+        String counterKey = "purchase:" + campaignId + ":" + stockId + ":" + 1L;
+
+        purchaseLimitService.decreaseUsingRedis(1L, stockId, 1L, limit);
+        Long firstTtl = redisTemplate.getExpire(counterKey, TimeUnit.MILLISECONDS);
+
+        Thread.sleep(200);
+        purchaseLimitService.decreaseUsingRedis(1L, stockId, 1L, limit);
+        Long secondTtl = redisTemplate.getExpire(counterKey, TimeUnit.MILLISECONDS);
+
+        assertTrue(firstTtl > 0);
+        assertTrue(secondTtl <= firstTtl - 100, "만료 시간이 다시 설정됨 : " + firstTtl + " > " + secondTtl);
+        redisTemplate.delete(counterKey);
+    }
+
+    /**
+     * Test 7-5) Redis 전략 : Redis 에 재고가 올라간 상태에서 DB 재고가 바뀌어도 보관 시간 (TTL) 안의 구매에 반영되는지 확인
+     * - 품절 후 입고하면 바로 구매 가능하고, Redis 를 거치지 않고 재고가 빠지면 바로 품절로 거절
+     */
+    @Test
+    public void redisStockFollowsDatabaseChangesWithinTtlTest() {
+        PurchaseLimit limit = PurchaseLimit.perCampaign(UUID.randomUUID().toString(), 1_000, Duration.ofMinutes(10));
+
+        // 전부 구매하여 Redis / DB 모두 품절
+        purchaseLimitService.decreaseUsingRedis(1L, stockId, 100L, limit);
+        assertEquals("0", redisTemplate.opsForValue().get(redisPurchaseLimitRepository.stockKey(stockId)));
+
+        // 입고 후 바로 구매 가능
+        restockService.restock(stockId, 10L);
+        purchaseLimitService.decreaseUsingRedis(2L, stockId, 1L, limit);
+        assertEquals(9L, stockRepository.findById(stockId).orElseThrow().getQuantity());
+        assertEquals("9", redisTemplate.opsForValue().get(redisPurchaseLimitRepository.stockKey(stockId)));
+
+        // 다른 경로로 남은 재고가 모두 빠지면 바로 품절
+        pessimisticLockStockService.decrease(stockId, 9L);
+        assertThrows(OutOfStockException.class, () -> purchaseLimitService.decreaseUsingRedis(3L, stockId, 1L, limit));
+        assertEquals(0L, stockRepository.findById(stockId).orElseThrow().getQuantity());
+        assertEquals("0", redisTemplate.opsForValue().get(redisPurchaseLimitRepository.stockKey(stockId)));
+    }
+}
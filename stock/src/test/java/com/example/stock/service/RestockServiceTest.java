@@ -0,0 +1,129 @@
+package com.example.stock.service;
+
+import com.example.stock.domain.Stock;
+import com.example.stock.exception.OutOfStockException;
+import com.example.stock.repository.StockRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 입고 및 입고 대기 서비스 로직 테스트
+ */
+@SpringBootTest
+class RestockServiceTest {
+
+    @Autowired
+    private RestockService restockService;      // 입고 서비스 로직
+
+    @Autowired
+    private StockService stockService;          // 상품재고 서비스 로직
+
+    @Autowired
+    private StockRepository stockRepository;    // 상품재고 엔티티 CRUD 인터페이스
+
+    private Long stockId;
+
+    /**
+     * 테스트 실행 전 품절 상태의 데이터 생성 (상품아이디 1 , 재고 0)
+     */
+    @BeforeEach
+    public void before() {
+        stockId = stockRepository.saveAndFlush(new Stock(1L, 0L)).getId();
+    }
+
+    /**
+     * 테스트 종료 후 관련 데이터 삭제
+     */
+    @AfterEach
+    public void after() {
+        stockRepository.deleteAll();
+    }
+
+    /**
+     * Test 6-1) 입고 시 재고가 증가하는지 확인
+     */
+    @Test
+    public void increaseTest() {
+        stockService.increase(stockId, 10L);
+
+        assertEquals(10L, stockRepository.findById(stockId).orElseThrow().getQuantity());
+    }
+
+    /**
+     * Test 6-2) 품절 상태에서 대기 등록한 구매자가 입고 시 순서대로 처리되는지 확인
+     * - 입고 수량 5 개, 대기자 요청 (2, 2, 2) 이면 앞의 두 명만 처리되고 세 번째 대기자는 계속 대기
+     */
+    @Test
+    public void restockSatisfiesWaitersInOrderTest() throws Exception {
+        List<CompletableFuture<Void>> waiters = new ArrayList<>();
+        for(int i = 0; i < 3; i++) {
+            waiters.add(restockService.decreaseOrBackOrder(stockId, 2L));
+        }
+        waiters.forEach(waiter -> assertFalse(waiter.isDone()));
+
+        restockService.restock(stockId, 5L);
+
+        waiters.get(0).get(1, TimeUnit.SECONDS);
+        waiters.get(1).get(1, TimeUnit.SECONDS);
+        assertFalse(waiters.get(2).isDone());
+        assertEquals(1L, stockRepository.findById(stockId).orElseThrow().getQuantity());
+
+        // 대기자가 남아 있으면 재고가 있어도 새 구매자는 대기열 뒤로 등록됨
+        CompletableFuture<Void> latecomer = restockService.decreaseOrBackOrder(stockId, 1L);
+        assertFalse(latecomer.isDone());
+
+        restockService.restock(stockId, 2L);
+
+        waiters.get(2).get(1, TimeUnit.SECONDS);
+        latecomer.get(1, TimeUnit.SECONDS);
+        assertEquals(0L, stockRepository.findById(stockId).orElseThrow().getQuantity());
+    }
+
+    /**
+     * Test 6-3) 입고 전용 경로가 아닌 일반 재고 증가도 대기자를 먼저 처리하고, 대기자가 있는 동안 일반 재고 감소는 거절되는지 확인
+     */
+    @Test
+    public void increaseSatisfiesWaitersAndBlocksDecreaseTest() throws Exception {
+        CompletableFuture<Void> first = restockService.decreaseOrBackOrder(stockId, 3L);
+        CompletableFuture<Void> second = restockService.decreaseOrBackOrder(stockId, 3L);
+
+        stockService.increase(stockId, 4L);
+
+        first.get(1, TimeUnit.SECONDS);
+        assertFalse(second.isDone());
+        assertEquals(1L, stockRepository.findById(stockId).orElseThrow().getQuantity());
+
+        // 재고가 1 개 남아 있지만 대기자가 있으므로 새 구매자의 감소는 거절
+        assertThrows(OutOfStockException.class, () -> stockService.decrease(stockId, 1L));
+
+        stockService.increase(stockId, 2L);
+
+        second.get(1, TimeUnit.SECONDS);
+        assertEquals(0L, stockRepository.findById(stockId).orElseThrow().getQuantity());
+
+        // 대기자가 모두 처리되면 다시 일반 감소 가능
+        stockService.increase(stockId, 1L);
+        stockService.decrease(stockId, 1L);
+        assertEquals(0L, stockRepository.findById(stockId).orElseThrow().getQuantity());
+    }
+
+    /**
+     * Test 6-4) 없는 재고 아이디로 대기 등록 / 입고 시 NoSuchElementException 발생하는지 확인
+     */
+    @Test
+    public void missingStockTest() {
+        assertThrows(NoSuchElementException.class, () -> restockService.decreaseOrBackOrder(-1L, 1L));
+        assertThrows(NoSuchElementException.class, () -> restockService.restock(-1L, 1L));
+    }
+}
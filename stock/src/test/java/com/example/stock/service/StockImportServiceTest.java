@@ -0,0 +1,153 @@
+package com.example.stock.service;
+
+import com.example.stock.domain.Stock;
+import com.example.stock.exception.StockImportException;
+import com.example.stock.repository.RedisPurchaseLimitRepository;
+import com.example.stock.repository.StockRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doThrow;
+
+/**
+ * 상품재고 일괄 적재 서비스 로직 테스트
+ */
+@SpringBootTest(properties = {"stock.import.commit-size=1000", "stock.import.batch-size=200"})
+class StockImportServiceTest {
+
+    @Autowired
+    private StockImportService stockImportService;          // 일괄 적재 서비스 로직
+
+    @Autowired
+    private StockRepository stockRepository;                // 상품재고 엔티티 CRUD 인터페이스
+
+    @Autowired
+    private StockIdResolver stockIdResolver;                // 상품 아이디 > 상품재고 아이디 캐시
+
+    @MockitoSpyBean
+    private RedisPurchaseLimitRepository redisPurchaseLimitRepository;  // Redis 재고 키 (Redis 반영 실패 재현용)
+
+    @Autowired
+    private RestockService restockService;                  // 입고 대기 등록
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;    // Redis 재고 확인
+
+    @AfterEach
+    public void after() {
+        stockRepository.findAll().forEach(stock -> {
+            redisTemplate.delete(redisPurchaseLimitRepository.stockKey(stock.getId()));
+            stockIdResolver.evict(stock.getProductId());
+        });
+        stockRepository.deleteAll();
+    }
+
+    /**
+     * Test 11-1) CSV 2,500 행을 1,000 행 단위로 나누어 덮어쓰기 적재
+     * - 기존 상품은 수량이 바뀌고 새 상품은 생성되며, Redis 재고와 상품재고 아이디 캐시도 함께 갱신되는지 확인
+     */
+    @Test
+    public void importCsvInChunksTest() {
+        Long existingId = stockRepository.saveAndFlush(new Stock(1L, 5L)).getId();
+
+        StringBuilder csv = new StringBuilder("productId,quantity\n");
+        for(long productId = 1; productId <= 2_500; productId++) {
+            csv.append(productId).append(',').append(productId * 10).append('\n');
+        }
+
+        StockImportService.Result result = stockImportService.importStocks(input(csv.toString()),
+                StockImportService.Format.CSV, StockImportService.Mode.REPLACE);
+
+        assertEquals(2_500, result.rows());
+        assertEquals(3, result.chunks());
+        assertEquals(2_500, stockRepository.count());
+        assertEquals(10L, stockRepository.findById(existingId).orElseThrow().getQuantity());
+
+        Stock last = stockRepository.findByProductId(2_500L).orElseThrow();
+        assertEquals(25_000L, last.getQuantity());
+        assertEquals(last.getId(), stockIdResolver.resolve(2_500L));
+        assertEquals("25000", redisTemplate.opsForValue().get(redisPurchaseLimitRepository.stockKey(last.getId())));
+    }
+
+    /**
+     * Test 11-2) JSON Lines 입고는 기존 수량에 더하고, Redis 에 올라간 재고에는 증가분만 더하는지 확인
+     * - 잘못된 줄을 만나면 그 전까지 커밋된 행 수와 함께 실패
+     */
+    @Test
+    public void restockJsonLinesTest() {
+        Long stockId = stockRepository.saveAndFlush(new Stock(1L, 100L)).getId();
+
+        // Redis 에서 먼저 10 개가 차감되어 DB 보다 적게 남아 있는 상황
+        redisPurchaseLimitRepository.loadStock(stockId, 90L, Duration.ofMinutes(1));
+
+        StockImportService.Result result = stockImportService.importStocks(input("""
+                {"productId":1,"quantity":30}
+                {"productId":2,"quantity":50}
+                {"productId":1,"quantity":20}
+                """), StockImportService.Format.JSONL, StockImportService.Mode.RESTOCK);
+
+        assertEquals(3, result.rows());
+        assertEquals(150L, stockRepository.findById(stockId).orElseThrow().getQuantity());
+        assertEquals(50L, stockRepository.findByProductId(2L).orElseThrow().getQuantity());
+        assertEquals("140", redisTemplate.opsForValue().get(redisPurchaseLimitRepository.stockKey(stockId)));
+
+        StockImportException e = assertThrows(StockImportException.class, () -> stockImportService.importStocks(input("""
+                {"productId":3,"quantity":1}
+                {"productId":4}
+                """), StockImportService.Format.JSONL, StockImportService.Mode.RESTOCK));
+        assertEquals(0, e.getCommittedRows());
+        assertTrue(stockRepository.findByProductId(3L).isEmpty());
+    }
+
+    /**
+     * Test 11-3) 입고 대기자가 있는 재고를 일괄 입고하면 대기자를 먼저 처리하고 나머지만 재고 / Redis 에 반영하는지 확인
+     */
+    @Test
+    public void restockFulfillsBackOrdersTest() throws Exception {
+        Long stockId = stockRepository.saveAndFlush(new Stock(1L, 0L)).getId();
+        redisPurchaseLimitRepository.loadStock(stockId, 0L, Duration.ofMinutes(1));
+        CompletableFuture<Void> waiter = restockService.decreaseOrBackOrder(stockId, 7L);
+
+        stockImportService.importStocks(input("1,10\n"), StockImportService.Format.CSV, StockImportService.Mode.RESTOCK);
+
+        waiter.get(1, TimeUnit.SECONDS);
+        assertEquals(3L, stockRepository.findById(stockId).orElseThrow().getQuantity());
+        assertEquals("3", redisTemplate.opsForValue().get(redisPurchaseLimitRepository.stockKey(stockId)));
+    }
+
+    /**
+     * Test 11-4) 커밋 후 Redis 반영에 실패해도 커밋된 묶음은 커밋된 행으로 집계되고, 오래된 Redis 값은 삭제되는지 확인
+     * - 커밋된 묶음을 실패로 보고하면 호출자가 다시 입고하여 재고가 두 번 늘어남
+     */
+    @Test
+    public void redisPublishFailureDoesNotHideCommittedRowsTest() {
+        Long stockId = stockRepository.saveAndFlush(new Stock(1L, 100L)).getId();
+        redisPurchaseLimitRepository.loadStock(stockId, 100L, Duration.ofMinutes(1));
+        doThrow(new RedisConnectionFailureException("Redis 연결 실패")).when(redisPurchaseLimitRepository).increaseLoadedStocks(anyMap());
+
+        StockImportService.Result result = stockImportService.importStocks(input("1,10\n2,20\n"),
+                StockImportService.Format.CSV, StockImportService.Mode.RESTOCK);
+
+        assertEquals(2, result.rows());
+        assertEquals(1, result.unpublishedChunks());
+        assertEquals(110L, stockRepository.findById(stockId).orElseThrow().getQuantity());
+        assertNull(redisTemplate.opsForValue().get(redisPurchaseLimitRepository.stockKey(stockId)));
+    }
+
+    private ByteArrayInputStream input(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.stock.service;
+
+import com.example.stock.domain.Stock;
+import com.example.stock.domain.StockAvailability;
+import com.example.stock.repository.StockRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 상품재고 일괄 조회 테스트
+ */
+@SpringBootTest
+class StockQueryServiceTest {
+
+    @Autowired
+    private StockQueryService stockQueryService;    // 상품재고 조회 서비스 로직
+
+    @Autowired
+    private StockRepository stockRepository;        // 상품재고 엔티티 CRUD 인터페이스
+
+    @Autowired
+    private StockIdResolver stockIdResolver;        // 상품 아이디 > 상품재고 아이디 변환
+
+    /**
+     * IN 절 배치 크기를 넘는 개수의 상품재고 생성 (상품아이디 1 ~ 1200, 재고 = 상품아이디)
+     */
+    @BeforeEach
+    public void before() {
+        List<Stock> stocks = new ArrayList<>();
+        LongStream.rangeClosed(1, 1_200).forEach(productId -> stocks.add(new Stock(productId, productId)));
+        stockRepository.saveAllAndFlush(stocks);
+    }
+
+    /**
+     * 테스트 종료 후 관련 데이터 삭제
+     */
+    @AfterEach
+    public void after() {
+        stockRepository.deleteAllInBatch();
+    }
+
+    /**
+     * Test 4-1) 배치 크기를 넘는 아이디 목록도 빠짐없이 조회되는지 확인
+     */
+    @Test
+    public void findAvailabilitiesTest() {
+        List<Long> ids = stockRepository.findAll().stream().map(Stock::getId).toList();
+
+        List<StockAvailability> availabilities = stockQueryService.findAvailabilities(ids);
+
+        assertEquals(ids.size(), availabilities.size());
+        availabilities.forEach(availability -> assertEquals(availability.productId(), availability.quantity()));
+    }
+
+    /**
+     * Test 4-2) 스냅샷 조회도 같은 결과를 반환하는지 확인
+     */
+    @Test
+    public void findAvailabilitiesFromSnapshotTest() {
+        List<Long> ids = stockRepository.findAll().stream().map(Stock::getId).toList();
+
+        List<StockAvailability> availabilities = stockQueryService.findAvailabilitiesFromSnapshot(ids);
+
+        assertEquals(ids.size(), availabilities.size());
+    }
+
+    /**
+     * Test 4-3) 상품 아이디로 조회한 결과가 같고, 조회 결과의 아이디 매핑이 캐시에 저장되는지 확인
+     */
+    @Test
+    public void findAvailabilitiesByProductIdsTest() {
+        List<Long> productIds = LongStream.rangeClosed(1, 1_200).boxed().toList();
+
+        List<StockAvailability> availabilities = stockQueryService.findAvailabilitiesByProductIds(productIds);
+
+        assertEquals(productIds.size(), availabilities.size());
+        availabilities.forEach(availability -> assertEquals(availability.stockId(), stockIdResolver.resolve(availability.productId())));
+    }
+
+    /**
+     * Test 4-4) 캐시된 상품재고가 삭제 후 다시 생성되어 아이디가 바뀐 경우 새 아이디로 한 번 더 시도하는지 확인
+     */
+    @Test
+    public void staleCachedStockIdIsRefreshedTest() {
+        Long staleId = stockIdResolver.resolve(1L);
+        stockRepository.deleteById(staleId);
+        Long newId = stockRepository.saveAndFlush(new Stock(1L, 10L)).getId();
+
+        List<Long> attempted = new ArrayList<>();
+        stockIdResolver.execute(1L, id -> {
+            attempted.add(id);
+            stockRepository.findById(id).orElseThrow();
+        });
+
+        assertEquals(List.of(staleId, newId), attempted);
+    }
+}
@@ -1,16 +1,22 @@
 package com.example.stock.service;
 
 import com.example.stock.domain.Stock;
+import com.example.stock.exception.StockBusyException;
 import com.example.stock.repository.StockRepository;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
+import java.util.NoSuchElementException;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -29,6 +35,9 @@ class StockServiceTest {
     @Autowired
     private StockRepository stockRepository;    // 상품재고 엔티티 CRUD 인터페이스
 
+    @Autowired
+    private PlatformTransactionManager transactionManager;  // 다른 트랜잭션의 Lock 점유 재현용
+
     /**
      * 테스트를 하기 위해서는 재고가 존재해야 하므로 @BeforeEach 어노테이션을 사용해
      * 테스트가 실행 되기 전에 데이터 생성 (상품아이디 1 , 재고 100)
@@ -273,5 +282,104 @@ class StockServiceTest {
         assertEquals(0, stock.getQuantity());
     }
 
+    /**
+     * Test 2-2-1-2) 다른 트랜잭션이 재고 행 Lock 을 점유 중일 때 대기하지 않고 실패하는지 확인
+     * - NOWAIT 은 즉시, 대기 시간을 지정한 경우 해당 시간 (1초) 후에 StockBusyException 발생
+     * - 기본 설정 (innodb_lock_wait_timeout 50초) 이었다면 점유가 끝날 때까지 커넥션을 잡고 대기하게 됨
+     */
+    @Test
+    public void pessimisticLockFailsFastWhenRowIsLockedTest() throws Exception {
+        Long stockId = stockRepository.findAll().get(0).getId();
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+        // 다른 트랜잭션이 재고 행 Lock 을 점유한 상태 유지
+        Future<?> holder = executorService.submit(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            stockRepository.findByIdWithPessimisticLock(stockId);
+            locked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        locked.await();
+
+        try {
+            long start = System.nanoTime();
+            assertThrows(StockBusyException.class, () -> pessimisticLockStockService.decreaseNoWait(stockId, 1L));
+            assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 1_000);
+
+            start = System.nanoTime();
+            assertThrows(StockBusyException.class, () -> pessimisticLockStockService.decrease(stockId, 1L, Duration.ofSeconds(1)));
+            assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 5_000);
+        } finally {
+            release.countDown();
+            holder.get();
+            executorService.shutdown();
+        }
+
+        // Lock 해제 후에는 정상 처리
+        pessimisticLockStockService.decreaseNoWait(stockId, 1L);
+        assertEquals(99L, stockRepository.findById(stockId).orElseThrow().getQuantity());
+    }
+
+    /**
+     * Test 2-2-1-3) 대기 시간을 지정한 비관적 락 조회도 없는 재고는 JPQL 조회와 같이 null 을 반환하고, 서비스는 NoSuchElementException 을 던지는지 확인
+     */
+    @Test
+    public void pessimisticLockWithTimeoutOnMissingStockTest() {
+        assertNull(new TransactionTemplate(transactionManager).execute(status ->
+                stockRepository.findByIdWithPessimisticLock(-1L, Duration.ofMillis(1500))));
+        assertThrows(NoSuchElementException.class, () -> pessimisticLockStockService.decrease(-1L, 1L, Duration.ofSeconds(1)));
+    }
 
-}
\ No newline at end of file
+    /**
+     * Test 2-2-1-4) 상품 아이디로 비관적 락 재고 감소 시 상품재고 아이디로 변환하여 처리하고, 없는 상품은 NoSuchElementException 을 던지는지 확인
+     */
+    @Test
+    public void pessimisticLockDecreaseByProductIdTest() {
+        Long stockId = stockRepository.findAll().get(0).getId();
+
+        pessimisticLockStockService.decreaseByProductId(1L, 1L);
+
+        assertEquals(99L, stockRepository.findById(stockId).orElseThrow().getQuantity());
+        assertThrows(NoSuchElementException.class, () -> pessimisticLockStockService.decreaseByProductId(-1L, 1L));
+    }
+
+    /**
+     * Test 2-2-1-5) 초 단위로 나누어 떨어지는 대기 시간 (2초) 은 올림하지 않고 그대로 적용되는지 확인
+     * - 3초 (innodb_lock_wait_timeout=3) 로 올림되면 요청한 시간보다 오래 대기하게 됨
+     */
+    @Test
+    public void pessimisticLockWaitsNoLongerThanWholeSecondTimeoutTest() throws Exception {
+        Long stockId = stockRepository.findAll().get(0).getId();
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+        // 다른 트랜잭션이 재고 행 Lock 을 점유한 상태 유지
+        Future<?> holder = executorService.submit(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            stockRepository.findByIdWithPessimisticLock(stockId);
+            locked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        locked.await();
+
+        try {
+            long start = System.nanoTime();
+            assertThrows(StockBusyException.class, () -> pessimisticLockStockService.decrease(stockId, 1L, Duration.ofSeconds(2)));
+            long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+            assertTrue(elapsedMillis >= 2_000 && elapsedMillis < 3_000, "대기 시간 : " + elapsedMillis + "ms");
+        } finally {
+            release.countDown();
+            holder.get();
+            executorService.shutdown();
+        }
+    }
+}
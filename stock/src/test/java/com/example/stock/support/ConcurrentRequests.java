@@ -0,0 +1,49 @@
+package com.example.stock.support;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 같은 작업을 여러 쓰레드에서 동시에 요청하기 위한 테스트 도우미
+ * 각 테스트 클래스의 CountDownLatch 패턴과 동일하게 동작하며, 예외로 끝난 요청은 실패로 집계
+ */
+public final class ConcurrentRequests {
+
+    // 동시에 실행할 최대 쓰레드 수
+    private static final int MAX_THREADS = 32;
+
+    private ConcurrentRequests() {
+    }
+
+    /**
+     * 작업을 requestCount 번 동시에 요청하고 모두 끝날 때 까지 대기
+     * @param requestCount  요청 수
+     * @param task          요청마다 실행할 작업
+     * @return 예외 없이 끝난 요청 수
+     */
+    public static int run(int requestCount, Runnable task) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(Math.min(requestCount, MAX_THREADS));
+        CountDownLatch latch = new CountDownLatch(requestCount);
+        AtomicInteger succeeded = new AtomicInteger();
+
+        try {
+            for(int i = 0; i < requestCount; i++) {
+                executorService.submit(() -> {
+                    try {
+                        task.run();
+                        succeeded.incrementAndGet();
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+
+            latch.await();
+        } finally {
+            executorService.shutdown();
+        }
+        return succeeded.get();
+    }
+}